@@ -0,0 +1,86 @@
+package de.amr.maze.alg.batch;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeGenerator;
+
+/**
+ * Thread-safe pool of empty grids, grouped by shape (size and topology).
+ *
+ * @author Armin Reichert
+ */
+class GridPool {
+
+	private static class Shape {
+
+		final int numCols;
+		final int numRows;
+		final Topology topology;
+
+		Shape(int numCols, int numRows, Topology topology) {
+			this.numCols = numCols;
+			this.numRows = numRows;
+			this.topology = topology;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Shape)) {
+				return false;
+			}
+			Shape other = (Shape) obj;
+			return numCols == other.numCols && numRows == other.numRows && topology == other.topology;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(numCols, numRows, topology);
+		}
+	}
+
+	private final Map<Shape, Queue<GridGraph2D<TraversalState, Integer>>> freeGrids = new ConcurrentHashMap<>();
+
+	private Queue<GridGraph2D<TraversalState, Integer>> queue(int numCols, int numRows, Topology topology) {
+		return freeGrids.computeIfAbsent(new Shape(numCols, numRows, topology),
+				shape -> new ConcurrentLinkedQueue<>());
+	}
+
+	/**
+	 * @return an empty grid of the given shape where all cells are unvisited
+	 */
+	public GridGraph2D<TraversalState, Integer> acquire(int numCols, int numRows, Topology topology) {
+		GridGraph2D<TraversalState, Integer> grid = queue(numCols, numRows, topology).poll();
+		return grid != null ? grid : GridFactory.emptyGrid(numCols, numRows, topology, UNVISITED, 0);
+	}
+
+	/**
+	 * Clears the given grid and returns it to the pool.
+	 * 
+	 * @param grid
+	 *               grid acquired from this pool
+	 */
+	public void release(GridGraph2D<TraversalState, Integer> grid) {
+		MazeGenerator.reset(grid);
+		queue(grid.numCols(), grid.numRows(), grid.getTopology()).offer(grid);
+	}
+
+	/**
+	 * Removes all grids from the pool.
+	 */
+	public void clear() {
+		freeGrids.clear();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package de.amr.maze.alg.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+
+/**
+ * Creates many mazes in parallel.
+ * <p>
+ * Each job runs as a separate task of the executor. Grids are taken from a pool of grids with the
+ * same shape, so a batch of similar jobs allocates only one grid per worker thread. The pool is
+ * emptied when {@link #run(List, BiConsumer)} returns, so no grids are kept between runs. The finished
+ * maze is passed to the consumer inside the worker thread, after the consumer returns the grid is
+ * cleared and reused for another job. Consumers must therefore copy everything they want to keep
+ * and must be thread-safe. Generators run in headless mode, so only the edges of the maze are
+ * defined, not the cell states.
+ *
+ * @author Armin Reichert
+ */
+public class MazeBatch {
+
+	private final ExecutorService executor;
+	private final GridPool gridPool = new GridPool();
+
+	/**
+	 * Creates a batch running on the common fork/join pool.
+	 */
+	public MazeBatch() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a batch running on the given executor, e.g. a fork/join pool with a specific
+	 * parallelism.
+	 * 
+	 * @param executor
+	 *                   executor service running the jobs
+	 */
+	public MazeBatch(ExecutorService executor) {
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * Runs the given jobs and waits until all have finished. The pooled grids are dropped afterwards.
+	 * 
+	 * @param jobs
+	 *                   maze jobs
+	 * @param consumer
+	 *                   called in the worker thread with each job and its maze
+	 * @throws IllegalStateException
+	 *                                 if some job failed, the failure is the cause
+	 */
+	public void run(List<MazeJob> jobs, BiConsumer<MazeJob, GridGraph2D<TraversalState, Integer>> consumer) {
+		Objects.requireNonNull(consumer);
+		List<Future<?>> futures = new ArrayList<>(jobs.size());
+		for (MazeJob job : jobs) {
+			futures.add(executor.submit(() -> runJob(job, consumer)));
+		}
+		try {
+			for (int i = 0; i < futures.size(); ++i) {
+				try {
+					futures.get(i).get();
+				} catch (InterruptedException e) {
+					futures.forEach(future -> future.cancel(true));
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Maze batch interrupted", e);
+				} catch (ExecutionException e) {
+					futures.forEach(future -> future.cancel(true));
+					throw new IllegalStateException("Maze job failed: " + jobs.get(i), e.getCause());
+				}
+			}
+		} finally {
+			gridPool.clear();
+		}
+	}
+
+	private void runJob(MazeJob job, BiConsumer<MazeJob, GridGraph2D<TraversalState, Integer>> consumer) {
+		GridGraph2D<TraversalState, Integer> grid = gridPool.acquire(job.getNumCols(), job.getNumRows(),
+				job.getTopology());
+		try {
+			MazeGenerator generator = job.getGeneratorFactory().apply(grid);
+			generator.setRandom(new MazeRandom(job.getSeed()));
+			generator.setHeadless(true);
+			generator.createMaze(job.getStartCol(), job.getStartRow());
+			consumer.accept(job, grid);
+		} finally {
+			gridPool.release(grid);
+		}
+	}
+}
\ No newline at end of file
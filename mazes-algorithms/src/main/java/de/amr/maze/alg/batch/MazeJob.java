@@ -0,0 +1,122 @@
+package de.amr.maze.alg.batch;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.maze.alg.core.MazeGenerator;
+
+/**
+ * Description of a maze to be created by a {@link MazeBatch}.
+ *
+ * @author Armin Reichert
+ */
+public class MazeJob {
+
+	private final String name;
+	private final Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator;
+	private final int numCols;
+	private final int numRows;
+	private final Topology topology;
+	private final long seed;
+	private final int startCol;
+	private final int startRow;
+
+	/**
+	 * Creates a job for a maze starting at the top-left cell.
+	 * 
+	 * @param name
+	 *                      job name, e.g. the name of the algorithm
+	 * @param fnGenerator
+	 *                      creates the generator for a grid, e.g. {@code KruskalMST::new}
+	 * @param numCols
+	 *                      number of grid columns
+	 * @param numRows
+	 *                      number of grid rows
+	 * @param topology
+	 *                      grid topology
+	 * @param seed
+	 *                      seed of the random source
+	 */
+	public MazeJob(String name, Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator,
+			int numCols, int numRows, Topology topology, long seed) {
+		this(name, fnGenerator, numCols, numRows, topology, seed, 0, 0);
+	}
+
+	/**
+	 * Creates a job for a maze starting at the given cell.
+	 * 
+	 * @param name
+	 *                      job name, e.g. the name of the algorithm
+	 * @param fnGenerator
+	 *                      creates the generator for a grid, e.g. {@code KruskalMST::new}
+	 * @param numCols
+	 *                      number of grid columns
+	 * @param numRows
+	 *                      number of grid rows
+	 * @param topology
+	 *                      grid topology
+	 * @param seed
+	 *                      seed of the random source
+	 * @param startCol
+	 *                      column of start cell
+	 * @param startRow
+	 *                      row of start cell
+	 */
+	public MazeJob(String name, Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator,
+			int numCols, int numRows, Topology topology, long seed, int startCol, int startRow) {
+		if (numCols <= 0 || numRows <= 0) {
+			throw new IllegalArgumentException(String.format("Illegal grid size: %d x %d", numCols, numRows));
+		}
+		if (startCol < 0 || startCol >= numCols || startRow < 0 || startRow >= numRows) {
+			throw new IllegalArgumentException(String.format("Illegal start cell: (%d, %d)", startCol, startRow));
+		}
+		this.name = Objects.requireNonNull(name);
+		this.fnGenerator = Objects.requireNonNull(fnGenerator);
+		this.numCols = numCols;
+		this.numRows = numRows;
+		this.topology = Objects.requireNonNull(topology);
+		this.seed = seed;
+		this.startCol = startCol;
+		this.startRow = startRow;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> getGeneratorFactory() {
+		return fnGenerator;
+	}
+
+	public int getNumCols() {
+		return numCols;
+	}
+
+	public int getNumRows() {
+		return numRows;
+	}
+
+	public Topology getTopology() {
+		return topology;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public int getStartCol() {
+		return startCol;
+	}
+
+	public int getStartRow() {
+		return startRow;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s (%d x %d, %d dirs, seed %d)", name, numCols, numRows, topology.dirCount(), seed);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package de.amr.maze.alg.core;
+
+import java.util.Arrays;
+
+/**
+ * Frontier of a maze generator: cells stored in a growable ring buffer of {@code int} values.
+ * <p>
+ * The oldest and the newest cell can be removed in constant time, so the frontier can be used as a
+ * queue or as a stack. A cell at any position is removed in constant time by moving the newest
+ * cell into its place, which changes the order of the remaining cells.
+ *
+ * @author Armin Reichert
+ */
+public final class CellFrontier {
+
+	private int[] cells = new int[64];
+	private int head;
+	private int size;
+
+	/**
+	 * @return {@code true} if the frontier contains no cells
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return number of cells in the frontier
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all cells.
+	 */
+	public void clear() {
+		head = size = 0;
+	}
+
+	/**
+	 * Adds a cell as the newest cell.
+	 * 
+	 * @param cell
+	 *               grid cell
+	 */
+	public void add(int cell) {
+		if (size == cells.length) {
+			int[] grown = new int[2 * size];
+			for (int i = 0; i < size; ++i) {
+				grown[i] = get(i);
+			}
+			cells = grown;
+			head = 0;
+		}
+		cells[(head + size++) & (cells.length - 1)] = cell;
+	}
+
+	/**
+	 * @param i
+	 *            position, {@code 0} is the oldest cell
+	 * @return cell at the given position
+	 */
+	public int get(int i) {
+		checkPosition(i);
+		return cells[(head + i) & (cells.length - 1)];
+	}
+
+	/**
+	 * Removes the oldest cell.
+	 * 
+	 * @return the removed cell
+	 */
+	public int removeFirst() {
+		int cell = get(0);
+		head = (head + 1) & (cells.length - 1);
+		--size;
+		return cell;
+	}
+
+	/**
+	 * Removes the newest cell.
+	 * 
+	 * @return the removed cell
+	 */
+	public int removeLast() {
+		int cell = get(size - 1);
+		--size;
+		return cell;
+	}
+
+	/**
+	 * Removes the cell at the given position and moves the newest cell into its place.
+	 * 
+	 * @param i
+	 *            position, {@code 0} is the oldest cell
+	 * @return the removed cell
+	 */
+	public int remove(int i) {
+		int cell = get(i);
+		cells[(head + i) & (cells.length - 1)] = cells[(head + size - 1) & (cells.length - 1)];
+		--size;
+		return cell;
+	}
+
+	private void checkPosition(int i) {
+		if (i < 0 || i >= size) {
+			throw new IndexOutOfBoundsException("Position " + i + ", size " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		int[] content = new int[size];
+		Arrays.setAll(content, this::get);
+		return Arrays.toString(content);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package de.amr.maze.alg.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Disjoint sets over the elements {@code 0 .. n - 1} that can be used by several threads at the
+ * same time without locks.
+ * <p>
+ * Parent links are changed only by compare-and-set. {@link #find(int)} uses path halving,
+ * {@link #union(int, int)} links the root with the larger index below the root with the smaller
+ * index, so the parent links never form a cycle.
+ *
+ * @author Armin Reichert
+ */
+public final class ConcurrentUnionFind {
+
+	private final AtomicIntegerArray parent;
+	private final AtomicInteger numSets;
+
+	/**
+	 * Creates {@code n} singleton sets.
+	 *
+	 * @param n
+	 *            number of elements
+	 */
+	public ConcurrentUnionFind(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Illegal number of elements: " + n);
+		}
+		parent = new AtomicIntegerArray(n);
+		for (int i = 0; i < n; ++i) {
+			parent.set(i, i);
+		}
+		numSets = new AtomicInteger(n);
+	}
+
+	/**
+	 * @param x
+	 *            element
+	 * @return representative of the set containing the element at some moment during the call
+	 */
+	public int find(int x) {
+		while (true) {
+			int p = parent.get(x);
+			if (p == x) {
+				return x;
+			}
+			int gp = parent.get(p);
+			if (gp != p) {
+				parent.compareAndSet(x, p, gp);
+			}
+			x = gp;
+		}
+	}
+
+	/**
+	 * Unites the sets containing the given elements.
+	 *
+	 * @param x
+	 *            element
+	 * @param y
+	 *            element
+	 * @return {@code true} if this call united two different sets, {@code false} if the elements
+	 *         already were in the same set
+	 */
+	public boolean union(int x, int y) {
+		while (true) {
+			int rx = find(x), ry = find(y);
+			if (rx == ry) {
+				return false;
+			}
+			if (rx > ry) {
+				int tmp = rx;
+				rx = ry;
+				ry = tmp;
+			}
+			if (parent.compareAndSet(ry, ry, rx)) {
+				numSets.decrementAndGet();
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * @param x
+	 *            element
+	 * @param y
+	 *            element
+	 * @return {@code true} if the elements are in the same set
+	 */
+	public boolean connected(int x, int y) {
+		while (true) {
+			int rx = find(x), ry = find(y);
+			if (rx == ry) {
+				return true;
+			}
+			// rx may have been linked below another root in the meantime
+			if (parent.get(rx) == rx) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * @return number of sets
+	 */
+	public int numSets() {
+		return numSets.get();
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int numElements() {
+		return parent.length();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,319 @@
+package de.amr.maze.alg.core;
+
+import java.util.Arrays;
+
+import de.amr.graph.grid.api.GridGraph2D;
+
+/**
+ * Reusable searches telling if two cells of a grid are connected by a path of passages.
+ * <p>
+ * All arrays are allocated once for the size of the grid. Visited cells are marked with the number
+ * of the current query (its "epoch"), so nothing has to be cleared between two queries and the
+ * time of a query only depends on the number of cells it explores. Each search stops as soon as
+ * the target cell is reached.
+ * <p>
+ * The heuristic searches use the grid distance to the target, which is the Manhattan distance in
+ * 4-neighbor grids and the Chebyshev distance in 8-neighbor grids.
+ *
+ * @author Armin Reichert
+ */
+public final class ConnectivitySearch {
+
+	private final GridGraph2D<?, ?> grid;
+	private final Neighborhood neighborhood;
+	private final int numCols;
+	private final boolean diagonals;
+	private final int[] stamp;
+	private final int[] dist;
+	private final int[] cells; // queue or stack
+	private final int[] neighbors;
+	private final IntMinHeap heap;
+	private final IntMinHeap backwardHeap;
+	private int epoch = -1;
+
+	public ConnectivitySearch(GridGraph2D<?, ?> grid) {
+		this.grid = grid;
+		neighborhood = new Neighborhood(grid);
+		numCols = grid.numCols();
+		diagonals = neighborhood.dirCount() == 8;
+		int numCells = grid.numVertices();
+		stamp = new int[numCells];
+		dist = new int[numCells];
+		cells = new int[numCells];
+		neighbors = new int[neighborhood.dirCount()];
+		heap = new IntMinHeap(numCells);
+		backwardHeap = new IntMinHeap(numCells);
+	}
+
+	/**
+	 * Breadth-first search.
+	 *
+	 * @param source
+	 *                 source cell
+	 * @param target
+	 *                 target cell
+	 * @return {@code true} if the cells are connected
+	 */
+	public boolean breadthFirst(int source, int target) {
+		if (source == target) {
+			return true;
+		}
+		newQuery();
+		int head = 0, tail = 0;
+		stamp[source] = epoch;
+		cells[tail++] = source;
+		while (head < tail) {
+			int cell = cells[head++];
+			for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+				int neighbor = unvisitedNeighbor(cell, dir, epoch);
+				if (neighbor == target) {
+					return true;
+				}
+				if (neighbor != Neighborhood.NO_CELL) {
+					stamp[neighbor] = epoch;
+					cells[tail++] = neighbor;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Depth-first search.
+	 *
+	 * @param source
+	 *                 source cell
+	 * @param target
+	 *                 target cell
+	 * @return {@code true} if the cells are connected
+	 */
+	public boolean depthFirst(int source, int target) {
+		return depthFirst(source, target, false);
+	}
+
+	/**
+	 * Depth-first search visiting the neighbors closest to the target first ("hill climbing").
+	 *
+	 * @param source
+	 *                 source cell
+	 * @param target
+	 *                 target cell
+	 * @return {@code true} if the cells are connected
+	 */
+	public boolean hillClimbing(int source, int target) {
+		return depthFirst(source, target, true);
+	}
+
+	private boolean depthFirst(int source, int target, boolean closestFirst) {
+		if (source == target) {
+			return true;
+		}
+		newQuery();
+		int top = 0;
+		stamp[source] = epoch;
+		cells[top++] = source;
+		while (top > 0) {
+			int cell = cells[--top];
+			int n = 0;
+			for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+				int neighbor = unvisitedNeighbor(cell, dir, epoch);
+				if (neighbor == target) {
+					return true;
+				}
+				if (neighbor != Neighborhood.NO_CELL) {
+					stamp[neighbor] = epoch;
+					neighbors[n++] = neighbor;
+				}
+			}
+			if (closestFirst) {
+				sortByDecreasingDistance(n, target);
+			}
+			for (int i = 0; i < n; ++i) {
+				cells[top++] = neighbors[i];
+			}
+		}
+		return false;
+	}
+
+	// insertion sort of the first n neighbors, the closest one ends up on top of the stack
+	private void sortByDecreasingDistance(int n, int target) {
+		for (int i = 1; i < n; ++i) {
+			int cell = neighbors[i], d = distance(cell, target), j = i;
+			while (j > 0 && distance(neighbors[j - 1], target) < d) {
+				neighbors[j] = neighbors[j - 1];
+				--j;
+			}
+			neighbors[j] = cell;
+		}
+	}
+
+	/**
+	 * Best-first search, always expanding the cell closest to the target.
+	 *
+	 * @param source
+	 *                 source cell
+	 * @param target
+	 *                 target cell
+	 * @return {@code true} if the cells are connected
+	 */
+	public boolean bestFirst(int source, int target) {
+		if (source == target) {
+			return true;
+		}
+		newQuery();
+		heap.clear();
+		stamp[source] = epoch;
+		heap.add(source, distance(source, target));
+		while (!heap.isEmpty()) {
+			int cell = heap.removeMin();
+			for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+				int neighbor = unvisitedNeighbor(cell, dir, epoch);
+				if (neighbor == target) {
+					return true;
+				}
+				if (neighbor != Neighborhood.NO_CELL) {
+					stamp[neighbor] = epoch;
+					heap.add(neighbor, distance(neighbor, target));
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Bidirectional A* search. The searches from both cells alternately expand their cell with the
+	 * smallest estimated path length until they meet or one of them runs out of cells.
+	 *
+	 * @param source
+	 *                 source cell
+	 * @param target
+	 *                 target cell
+	 * @return {@code true} if the cells are connected
+	 */
+	public boolean bidiAStar(int source, int target) {
+		if (source == target) {
+			return true;
+		}
+		newQuery();
+		int forward = epoch, backward = epoch + 1;
+		heap.clear();
+		backwardHeap.clear();
+		start(heap, source, target, forward);
+		start(backwardHeap, target, source, backward);
+		while (!heap.isEmpty() && !backwardHeap.isEmpty()) {
+			if (expand(heap, target, forward, backward) || expand(backwardHeap, source, backward, forward)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void start(IntMinHeap open, int cell, int goal, int mark) {
+		stamp[cell] = mark;
+		dist[cell] = 0;
+		open.add(cell, distance(cell, goal));
+	}
+
+	// expands the best cell of one search and returns true if it reaches a cell of the other search
+	private boolean expand(IntMinHeap open, int goal, int mark, int otherMark) {
+		int cell = open.removeMin();
+		for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+			int neighbor = unvisitedNeighbor(cell, dir, mark);
+			if (neighbor == Neighborhood.NO_CELL) {
+				continue;
+			}
+			if (stamp[neighbor] == otherMark) {
+				return true;
+			}
+			stamp[neighbor] = mark;
+			dist[neighbor] = dist[cell] + 1;
+			open.add(neighbor, dist[neighbor] + distance(neighbor, goal));
+		}
+		return false;
+	}
+
+	// starts a new query, the current query may use the stamps epoch and epoch + 1
+	private void newQuery() {
+		if (epoch > Integer.MAX_VALUE - 4) {
+			Arrays.fill(stamp, 0);
+			epoch = -1;
+		}
+		epoch += 2;
+	}
+
+	// neighbor connected by a passage and not yet marked with the given stamp, or NO_CELL
+	private int unvisitedNeighbor(int cell, int dir, int mark) {
+		int neighbor = neighborhood.neighbor(cell, dir);
+		if (neighbor == Neighborhood.NO_CELL || stamp[neighbor] == mark || !grid.adjacent(cell, neighbor)) {
+			return Neighborhood.NO_CELL;
+		}
+		return neighbor;
+	}
+
+	private int distance(int u, int v) {
+		int dx = Math.abs(u % numCols - v % numCols), dy = Math.abs(u / numCols - v / numCols);
+		return diagonals ? Math.max(dx, dy) : dx + dy;
+	}
+
+	/**
+	 * Binary min-heap of cells with integer keys. Each cell is added at most once per query, so the
+	 * capacity is the number of cells.
+	 */
+	private static class IntMinHeap {
+
+		private final int[] cells;
+		private final int[] keys;
+		private int size;
+
+		IntMinHeap(int capacity) {
+			cells = new int[capacity];
+			keys = new int[capacity];
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void clear() {
+			size = 0;
+		}
+
+		void add(int cell, int key) {
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) / 2;
+				if (keys[parent] <= key) {
+					break;
+				}
+				cells[i] = cells[parent];
+				keys[i] = keys[parent];
+				i = parent;
+			}
+			cells[i] = cell;
+			keys[i] = key;
+		}
+
+		int removeMin() {
+			int min = cells[0];
+			int cell = cells[--size], key = keys[size], i = 0;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && keys[child + 1] < keys[child]) {
+					++child;
+				}
+				if (key <= keys[child]) {
+					break;
+				}
+				cells[i] = cells[child];
+				keys[i] = keys[child];
+				i = child;
+			}
+			cells[i] = cell;
+			keys[i] = key;
+			return min;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package de.amr.maze.alg.core;
+
+/**
+ * Stores one direction per grid cell, packed into 2 bits (4-neighborhood) or 4 bits
+ * (8-neighborhood) per cell.
+ *
+ * @author Armin Reichert
+ */
+public final class DirectionArray {
+
+	private final long[] words;
+	private final int bitsShift; // log2 of bits per cell
+	private final int cellsShift; // log2 of cells per word
+	private final long mask;
+
+	/**
+	 * @param numCells
+	 *                   number of cells
+	 * @param dirCount
+	 *                   number of directions, at most 16
+	 */
+	public DirectionArray(int numCells, int dirCount) {
+		if (dirCount < 1 || dirCount > 16) {
+			throw new IllegalArgumentException("Illegal number of directions: " + dirCount);
+		}
+		bitsShift = dirCount <= 4 ? 1 : 2;
+		cellsShift = 6 - bitsShift;
+		mask = (1L << (1 << bitsShift)) - 1;
+		words = new long[(int) (((long) numCells + (1 << cellsShift) - 1) >>> cellsShift)];
+	}
+
+	/**
+	 * @param cell
+	 *               grid cell
+	 * @return direction stored for the cell
+	 */
+	public int get(int cell) {
+		int shift = (cell & ((1 << cellsShift) - 1)) << bitsShift;
+		return (int) (words[cell >>> cellsShift] >>> shift & mask);
+	}
+
+	/**
+	 * @param cell
+	 *               grid cell
+	 * @param dir
+	 *               direction to store for the cell
+	 */
+	public void set(int cell, int dir) {
+		int index = cell >>> cellsShift, shift = (cell & ((1 << cellsShift) - 1)) << bitsShift;
+		words[index] = words[index] & ~(mask << shift) | (dir & mask) << shift;
+	}
+}
\ No newline at end of file
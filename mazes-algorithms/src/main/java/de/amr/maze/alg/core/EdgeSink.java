@@ -0,0 +1,24 @@
+package de.amr.maze.alg.core;
+
+/**
+ * Receives the passages of a maze as pairs of cell indices.
+ *
+ * @author Armin Reichert
+ */
+@FunctionalInterface
+public interface EdgeSink {
+
+	/** Sink ignoring all edges. */
+	public static final EdgeSink NONE = (u, v) -> {
+	};
+
+	/**
+	 * Receives the edge (passage) between the given cells.
+	 * 
+	 * @param u
+	 *            grid cell
+	 * @param v
+	 *            grid cell
+	 */
+	void accept(int u, int v);
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package de.amr.maze.alg.core;
+
+/**
+ * Selects the next cell of a {@link CellFrontier}, e.g. for the "growing tree" generators.
+ * <p>
+ * Policies can be mixed, for example {@code FrontierPolicy.mix(NEWEST, 0.75, RANDOM)} selects the
+ * newest cell with probability 3/4 and a random cell otherwise.
+ *
+ * @author Armin Reichert
+ */
+@FunctionalInterface
+public interface FrontierPolicy {
+
+	/** Selects the newest cell (stack order). */
+	public static final FrontierPolicy NEWEST = (frontier, rnd) -> frontier.removeLast();
+
+	/** Selects the oldest cell (queue order). */
+	public static final FrontierPolicy OLDEST = (frontier, rnd) -> frontier.removeFirst();
+
+	/** Selects a random cell. */
+	public static final FrontierPolicy RANDOM = (frontier, rnd) -> frontier.remove(rnd.nextInt(frontier.size()));
+
+	/**
+	 * @param first
+	 *                      policy used with the given probability
+	 * @param probability
+	 *                      probability of using the first policy
+	 * @param second
+	 *                      policy used otherwise
+	 * @return policy using one of the given policies for each selection
+	 */
+	public static FrontierPolicy mix(FrontierPolicy first, double probability, FrontierPolicy second) {
+		if (probability < 0 || probability > 1) {
+			throw new IllegalArgumentException("Illegal probability: " + probability);
+		}
+		return (frontier, rnd) -> rnd.nextDouble() < probability ? first.selectCell(frontier, rnd)
+				: second.selectCell(frontier, rnd);
+	}
+
+	/**
+	 * Selects and removes a cell from the non-empty frontier.
+	 * 
+	 * @param frontier
+	 *                   the frontier
+	 * @param rnd
+	 *                   random source of the generator
+	 * @return the selected cell
+	 */
+	int selectCell(CellFrontier frontier, MazeRandom rnd);
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+package de.amr.maze.alg.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.amr.graph.core.api.TraversalState;
+
+/**
+ * Probe counting the events of a maze generation and measuring the time spent in each phase.
+ * <p>
+ * Usage:
+ * 
+ * <pre>
+ * GenerationMetrics metrics = new GenerationMetrics();
+ * generator.setProbe(metrics);
+ * metrics.measure(() -&gt; generator.createMaze(0, 0));
+ * System.out.println(metrics);
+ * </pre>
+ *
+ * @author Armin Reichert
+ */
+public class GenerationMetrics implements GenerationProbe {
+
+	private long edgesAdded;
+	private long edgesRemoved;
+	private long stateChanges;
+	private long randomDraws;
+	private long walkSteps;
+	private long erasedSteps;
+	private long walks;
+	private long revisits;
+	private long connectivityQueries;
+	private long totalNanos;
+	private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+	private String currentPhase;
+	private long phaseStart;
+
+	/**
+	 * Resets all counters and timers, runs the given code and measures its execution time.
+	 * 
+	 * @param generation
+	 *                     code creating a maze
+	 */
+	public void measure(Runnable generation) {
+		reset();
+		long start = System.nanoTime();
+		try {
+			generation.run();
+		} finally {
+			long end = System.nanoTime();
+			endPhase(end);
+			totalNanos = end - start;
+		}
+	}
+
+	/**
+	 * Resets all counters and timers.
+	 */
+	public void reset() {
+		edgesAdded = edgesRemoved = stateChanges = randomDraws = 0;
+		walkSteps = erasedSteps = walks = revisits = connectivityQueries = 0;
+		totalNanos = 0;
+		phaseNanos.clear();
+		currentPhase = null;
+	}
+
+	private void endPhase(long now) {
+		if (currentPhase != null) {
+			phaseNanos.merge(currentPhase, now - phaseStart, Long::sum);
+			currentPhase = null;
+		}
+	}
+
+	@Override
+	public void phase(String name) {
+		long now = System.nanoTime();
+		endPhase(now);
+		currentPhase = name;
+		phaseStart = now;
+	}
+
+	@Override
+	public void edgeAdded(int u, int v) {
+		++edgesAdded;
+	}
+
+	@Override
+	public void edgeRemoved(int u, int v) {
+		++edgesRemoved;
+	}
+
+	@Override
+	public void stateChanged(int cell, TraversalState state) {
+		++stateChanges;
+	}
+
+	@Override
+	public void randomDraw() {
+		++randomDraws;
+	}
+
+	@Override
+	public void walkStep() {
+		++walkSteps;
+	}
+
+	@Override
+	public void revisit() {
+		++revisits;
+	}
+
+	@Override
+	public void walkCompleted(int steps, int kept) {
+		++walks;
+		erasedSteps += steps - kept;
+	}
+
+	@Override
+	public void connectivityQuery() {
+		++connectivityQueries;
+	}
+
+	public long getEdgesAdded() {
+		return edgesAdded;
+	}
+
+	public long getEdgesRemoved() {
+		return edgesRemoved;
+	}
+
+	public long getStateChanges() {
+		return stateChanges;
+	}
+
+	public long getRandomDraws() {
+		return randomDraws;
+	}
+
+	public long getWalkSteps() {
+		return walkSteps;
+	}
+
+	public long getErasedSteps() {
+		return erasedSteps;
+	}
+
+	public long getWalks() {
+		return walks;
+	}
+
+	public long getRevisits() {
+		return revisits;
+	}
+
+	public long getConnectivityQueries() {
+		return connectivityQueries;
+	}
+
+	/**
+	 * @return time of the last measured generation in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @param phase
+	 *                phase name
+	 * @return time spent in the given phase in nanoseconds
+	 */
+	public long getPhaseNanos(String phase) {
+		return phaseNanos.getOrDefault(phase, 0L);
+	}
+
+	/**
+	 * @return all counters and timers by name, e.g. for export as CSV or JSON
+	 */
+	public Map<String, Long> toMap() {
+		Map<String, Long> map = new LinkedHashMap<>();
+		map.put("edgesAdded", edgesAdded);
+		map.put("edgesRemoved", edgesRemoved);
+		map.put("stateChanges", stateChanges);
+		map.put("randomDraws", randomDraws);
+		map.put("walks", walks);
+		map.put("walkSteps", walkSteps);
+		map.put("erasedSteps", erasedSteps);
+		map.put("revisits", revisits);
+		map.put("connectivityQueries", connectivityQueries);
+		map.put("totalNanos", totalNanos);
+		phaseNanos.forEach((phase, nanos) -> map.put("phaseNanos." + phase, nanos));
+		return map;
+	}
+
+	@Override
+	public String toString() {
+		return toMap().toString();
+	}
+}
\ No newline at end of file
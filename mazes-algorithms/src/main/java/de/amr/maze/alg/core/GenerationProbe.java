@@ -0,0 +1,67 @@
+package de.amr.maze.alg.core;
+
+import de.amr.graph.core.api.TraversalState;
+
+/**
+ * Receives events from a maze generator while it creates a maze. All methods do nothing by
+ * default, so an implementation only overrides the events it is interested in.
+ * <p>
+ * Generators use {@link #NONE} if no probe is attached.
+ *
+ * @author Armin Reichert
+ */
+public interface GenerationProbe {
+
+	/** Probe ignoring all events. */
+	public static final GenerationProbe NONE = new GenerationProbe() {
+	};
+
+	/**
+	 * A new phase of the generation starts, e.g. the switch from Aldous/Broder to Wilson in the hybrid
+	 * generator.
+	 * 
+	 * @param name
+	 *               phase name
+	 */
+	default void phase(String name) {
+	}
+
+	/** An edge (passage) has been added to the grid. */
+	default void edgeAdded(int u, int v) {
+	}
+
+	/** An edge (passage) has been removed from the grid. */
+	default void edgeRemoved(int u, int v) {
+	}
+
+	/** The traversal state of a cell has been changed. */
+	default void stateChanged(int cell, TraversalState state) {
+	}
+
+	/** A random number has been drawn from the generator's random source. */
+	default void randomDraw() {
+	}
+
+	/** A random walk has made a step. */
+	default void walkStep() {
+	}
+
+	/** A random walk has entered a cell that already belongs to the maze (Aldous/Broder). */
+	default void revisit() {
+	}
+
+	/**
+	 * A loop-erased random walk has been completed (Wilson).
+	 * 
+	 * @param steps
+	 *                number of steps of the walk
+	 * @param kept
+	 *                number of steps remaining after loop-erasure, these become maze passages
+	 */
+	default void walkCompleted(int steps, int kept) {
+	}
+
+	/** The generator has asked if two cells are connected (Reverse-Delete). */
+	default void connectivityQuery() {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package de.amr.maze.alg.core;
+
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+
+/**
+ * Implicit numbering of the edges of the full grid with the size and topology of a given grid.
+ * <p>
+ * Of each pair of opposite directions, only the "forward" direction (pointing down, or right if
+ * horizontal) is used. The edge leaving cell {@code u} in the {@code i}-th forward direction has the
+ * ID {@code u * k + i} where {@code k} is the number of forward directions. So edges are plain
+ * integers and the full grid never has to be created.
+ *
+ * @author Armin Reichert
+ */
+public final class GridEdgeIds {
+
+	private final int numCols;
+	private final int numRows;
+	private final int[] dx;
+	private final int[] dy;
+	private final int[] offset;
+
+	public GridEdgeIds(GridGraph2D<?, ?> grid) {
+		Topology top = grid.getTopology();
+		numCols = grid.numCols();
+		numRows = grid.numRows();
+		int k = top.dirCount() / 2;
+		if ((long) numCols * numRows * k > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(
+					String.format("Too many edges for integer IDs: %d x %d grid", numCols, numRows));
+		}
+		dx = new int[k];
+		dy = new int[k];
+		offset = new int[k];
+		int i = 0;
+		for (byte dir = 0; dir < top.dirCount(); ++dir) {
+			int ddx = top.dx(dir), ddy = top.dy(dir);
+			if (ddy > 0 || ddy == 0 && ddx > 0) {
+				dx[i] = ddx;
+				dy[i] = ddy;
+				offset[i] = ddy * numCols + ddx;
+				++i;
+			}
+		}
+	}
+
+	/**
+	 * @return number of edges of the full grid
+	 */
+	public int numEdges() {
+		int n = 0;
+		for (int i = 0; i < dx.length; ++i) {
+			n += (numCols - Math.abs(dx[i])) * (numRows - dy[i]);
+		}
+		return n;
+	}
+
+	/**
+	 * @return IDs of all edges of the full grid in ascending order
+	 */
+	public int[] edges() {
+		int[] edges = new int[numEdges()];
+		int n = 0;
+		for (int row = 0; row < numRows; ++row) {
+			for (int col = 0; col < numCols; ++col) {
+				int cell = row * numCols + col;
+				for (int i = 0; i < dx.length; ++i) {
+					int c = col + dx[i], r = row + dy[i];
+					if (0 <= c && c < numCols && r < numRows) {
+						edges[n++] = cell * dx.length + i;
+					}
+				}
+			}
+		}
+		return edges;
+	}
+
+	/**
+	 * @return number of forward directions, the edge IDs of a cell are {@code cell * edgesPerCell()}
+	 *         to {@code cell * edgesPerCell() + edgesPerCell() - 1}
+	 */
+	public int edgesPerCell() {
+		return dx.length;
+	}
+
+	/**
+	 * @param cell
+	 *               grid cell
+	 * @param i
+	 *               index of forward direction
+	 * @return ID of the edge leaving the cell in the given forward direction or {@code -1} if this
+	 *         edge would lead outside of the grid
+	 */
+	public int edge(int cell, int i) {
+		int c = cell % numCols + dx[i], r = cell / numCols + dy[i];
+		return 0 <= c && c < numCols && r < numRows ? cell * dx.length + i : -1;
+	}
+
+	/**
+	 * @param edge
+	 *               edge ID
+	 * @return the cell the edge starts from
+	 */
+	public int either(int edge) {
+		return edge / dx.length;
+	}
+
+	/**
+	 * @param edge
+	 *               edge ID
+	 * @return the cell the edge leads to
+	 */
+	public int other(int edge) {
+		return edge / dx.length + offset[edge % dx.length];
+	}
+}
\ No newline at end of file
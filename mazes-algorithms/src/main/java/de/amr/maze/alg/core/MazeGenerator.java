@@ -1,27 +1,39 @@
 package de.amr.maze.alg.core;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
 
 /**
  * Maze generator base class.
- * 
+ *
  * @author Armin Reichert
  */
 public abstract class MazeGenerator {
 
 	protected final GridGraph2D<TraversalState, Integer> grid;
-	protected final Random rnd = new Random();
+	protected MazeRandom rnd = new MazeRandom(); // random source reporting to the probe
+	private MazeRandom sharedRnd = rnd; // random source as set by the client
+	protected GenerationProbe probe = GenerationProbe.NONE;
+	protected boolean headless;
+	protected EdgeSink edgeSink = EdgeSink.NONE;
 
 	public MazeGenerator(GridGraph2D<TraversalState, Integer> grid) {
 		this.grid = grid;
 	}
 
 	/**
-	 * Creates a maze starting at the grid cell {@code (x, y)}.
-	 * 
+	 * Creates a maze starting at the grid cell {@code (x, y)}. The grid must not contain edges and all
+	 * cells must be unvisited, see {@link #reset()}.
+	 *
 	 * @param x
 	 *            x-coordinate (column) of start cell
 	 * @param y
@@ -29,9 +41,172 @@ public abstract class MazeGenerator {
 	 */
 	public abstract void createMaze(int x, int y);
 
+	/**
+	 * Removes all edges from the grid and marks all cells as unvisited. After a reset, this generator
+	 * can create a new maze on the same grid.
+	 */
+	public void reset() {
+		reset(grid);
+	}
+
+	/**
+	 * Removes all edges from the given grid and marks all cells as unvisited.
+	 *
+	 * @param grid
+	 *               grid graph
+	 */
+	public static void reset(GridGraph2D<TraversalState, Integer> grid) {
+		if (grid instanceof PackedGridGraph) {
+			PackedGridGraph packedGrid = (PackedGridGraph) grid;
+			packedGrid.setDefaultState(TraversalState.UNVISITED);
+			packedGrid.clear();
+		} else {
+			grid.setDefaultVertexLabel(cell -> TraversalState.UNVISITED);
+			grid.removeEdges();
+			grid.clearVertexLabels();
+		}
+	}
+
+	/**
+	 * @return the random source used by this generator
+	 */
+	public MazeRandom getRandom() {
+		return sharedRnd;
+	}
+
+	/**
+	 * Sets the random source used by this generator. Generators using random sources with the same
+	 * seed create identical mazes. The random source is not modified, the probe of this generator
+	 * observes the draws through a view of the source, see {@link MazeRandom#withProbe}.
+	 *
+	 * @param rnd
+	 *              random source
+	 */
+	public void setRandom(MazeRandom rnd) {
+		sharedRnd = Objects.requireNonNull(rnd);
+		this.rnd = rnd.withProbe(probe);
+	}
+
+	/**
+	 * @return the probe receiving the generation events
+	 */
+	public GenerationProbe getProbe() {
+		return probe;
+	}
+
+	/**
+	 * Attaches a probe receiving the generation events of this generator and its random source.
+	 *
+	 * @param probe
+	 *                generation probe, {@link GenerationProbe#NONE} detaches the current probe
+	 */
+	public void setProbe(GenerationProbe probe) {
+		this.probe = Objects.requireNonNull(probe);
+		rnd = sharedRnd.withProbe(probe);
+	}
+
+	/**
+	 * @return {@code true} if this generator skips all work that is only needed for animation
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	/**
+	 * Sets the headless mode. In headless mode, cell states that are not needed by the algorithm
+	 * itself are not written, so the cell states after generation are unspecified. The created mazes
+	 * are the same as in normal mode.
+	 *
+	 * @param headless
+	 *                   if animation-only work is skipped
+	 */
+	public void setHeadless(boolean headless) {
+		this.headless = headless;
+	}
+
+	/**
+	 * Sets a sink that receives each passage added by this generator in addition to the grid. Note
+	 * that generators removing passages (Recursive Division, Reverse-Delete) are not suited for this.
+	 *
+	 * @param edgeSink
+	 *                   edge sink, {@link EdgeSink#NONE} removes the current sink
+	 */
+	public void setEdgeSink(EdgeSink edgeSink) {
+		this.edgeSink = Objects.requireNonNull(edgeSink);
+	}
+
+	/**
+	 * Makes the given generator, used by this generator for some part of its work, use the same random
+	 * source, probe, mode and edge sink as this generator.
+	 *
+	 * @param delegate
+	 *                   generator working for this generator
+	 */
+	protected void shareSettings(MazeGenerator delegate) {
+		delegate.setRandom(sharedRnd);
+		delegate.setProbe(probe);
+		delegate.setHeadless(headless);
+		delegate.setEdgeSink(edgeSink);
+	}
+
+	/**
+	 * Adds the edge {@code (u, v)} to the grid.
+	 *
+	 * @param u
+	 *            grid cell
+	 * @param v
+	 *            grid cell
+	 */
+	protected void addEdge(int u, int v) {
+		grid.addEdge(u, v);
+		probe.edgeAdded(u, v);
+		edgeSink.accept(u, v);
+	}
+
+	/**
+	 * Removes the edge {@code (u, v)} from the grid.
+	 *
+	 * @param u
+	 *            grid cell
+	 * @param v
+	 *            grid cell
+	 */
+	protected void removeEdge(int u, int v) {
+		grid.removeEdge(u, v);
+		probe.edgeRemoved(u, v);
+	}
+
+	/**
+	 * Sets the traversal state of the given cell.
+	 *
+	 * @param cell
+	 *                grid cell
+	 * @param state
+	 *                new state
+	 */
+	protected void setState(int cell, TraversalState state) {
+		grid.set(cell, state);
+		probe.stateChanged(cell, state);
+	}
+
+	/**
+	 * Sets a traversal state that is only used for visualization and not read by the algorithm. Does
+	 * nothing in headless mode.
+	 *
+	 * @param cell
+	 *                grid cell
+	 * @param state
+	 *                new state
+	 */
+	protected void setVisualState(int cell, TraversalState state) {
+		if (!headless) {
+			setState(cell, state);
+		}
+	}
+
 	/**
 	 * Tells if the given cell is unvisited by the maze generator.
-	 * 
+	 *
 	 * @param cell
 	 *               grid cell
 	 * @return {@code true} if cell has not yet been visited
@@ -42,7 +217,7 @@ public abstract class MazeGenerator {
 
 	/**
 	 * Tells if the given cell has already been visited by the maze generator.
-	 * 
+	 *
 	 * @param cell
 	 *               grid cell
 	 * @return {@code true} if cell has already been visited
@@ -53,7 +228,7 @@ public abstract class MazeGenerator {
 
 	/**
 	 * Tells if the given cell has been completed by the maze generator.
-	 * 
+	 *
 	 * @param cell
 	 *               grid cell
 	 * @return {@code true} if cell has been completed
@@ -62,4 +237,35 @@ public abstract class MazeGenerator {
 		return grid.get(cell) == TraversalState.COMPLETED;
 	}
 
+	/**
+	 * @param stream
+	 *                 stream of integers
+	 * @return stream of the same integers in random order, using this generator's random source
+	 */
+	protected IntStream permute(IntStream stream) {
+		int[] a = stream.toArray();
+		rnd.shuffle(a);
+		return Arrays.stream(a);
+	}
+
+	/**
+	 * @param stream
+	 *                 stream of elements
+	 * @return stream of the same elements in random order, using this generator's random source
+	 */
+	protected <T> Stream<T> permute(Stream<T> stream) {
+		List<T> list = stream.collect(Collectors.toList());
+		Collections.shuffle(list, rnd);
+		return list.stream();
+	}
+
+	/**
+	 * @param stream
+	 *                 stream of elements
+	 * @return random element of the stream, using this generator's random source
+	 */
+	protected <T> Optional<T> randomElement(Stream<T> stream) {
+		List<T> list = stream.collect(Collectors.toList());
+		return list.isEmpty() ? Optional.empty() : Optional.of(list.get(rnd.nextInt(list.size())));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package de.amr.maze.alg.core;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Seedable random source used by all maze generators.
+ * <p>
+ * Extends {@link Random} such that it can be passed to library methods like
+ * {@link java.util.Collections#shuffle(java.util.List, Random)}, but draws all numbers from an
+ * unsynchronized {@link SplittableRandom}. Generators using the same seed create identical mazes.
+ * <p>
+ * Instances are not thread-safe. Each worker thread should use its own instance obtained by
+ * {@link #split()}.
+ *
+ * @author Armin Reichert
+ */
+public class MazeRandom extends Random {
+
+	private long seed;
+	private SplittableRandom source;
+	private GenerationProbe probe = GenerationProbe.NONE;
+
+	/**
+	 * Creates a random source with an arbitrary seed.
+	 */
+	public MazeRandom() {
+		super();
+	}
+
+	/**
+	 * Creates a random source with the given seed.
+	 *
+	 * @param seed
+	 *               initial seed
+	 */
+	public MazeRandom(long seed) {
+		super(seed);
+	}
+
+	// view drawing from the same source as the given random source
+	private MazeRandom(MazeRandom shared, GenerationProbe probe) {
+		super(shared.seed);
+		this.source = shared.source;
+		this.probe = probe;
+	}
+
+	/**
+	 * @return the seed this random source has been (re-)initialized with
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Sets the probe that is notified about each random draw.
+	 *
+	 * @param probe
+	 *                generation probe
+	 */
+	public void setProbe(GenerationProbe probe) {
+		this.probe = Objects.requireNonNull(probe);
+	}
+
+	/**
+	 * Returns a view of this random source that notifies the given probe about its random draws. The
+	 * view draws from the same sequence as this source, so drawing from either one advances both.
+	 * Setting the seed of the view detaches it from this source.
+	 *
+	 * @param probe
+	 *                generation probe of the view
+	 * @return view of this random source, or this source itself if it already notifies the probe
+	 */
+	public MazeRandom withProbe(GenerationProbe probe) {
+		Objects.requireNonNull(probe);
+		return probe == this.probe ? this : new MazeRandom(this, probe);
+	}
+
+	/**
+	 * Creates a new random source whose seed is drawn from this one. The returned source can be used
+	 * independently by another thread, the sequence of split sources only depends on the seed of this
+	 * source.
+	 *
+	 * @return new random source
+	 */
+	public MazeRandom split() {
+		return new MazeRandom(source.nextLong());
+	}
+
+	/**
+	 * Shuffles the given array in place (Fisher-Yates).
+	 *
+	 * @param a
+	 *            array
+	 */
+	public void shuffle(int[] a) {
+		shuffle(a, a.length);
+	}
+
+	/**
+	 * Shuffles the first {@code n} elements of the given array in place (Fisher-Yates). Uses the same
+	 * random draws as {@link java.util.Collections#shuffle(java.util.List, Random)} for a list of
+	 * these elements.
+	 *
+	 * @param a
+	 *            array
+	 * @param n
+	 *            number of elements to shuffle
+	 */
+	public void shuffle(int[] a, int n) {
+		for (int i = n - 1; i > 0; --i) {
+			int j = source.nextInt(i + 1);
+			probe.randomDraw();
+			int tmp = a[i];
+			a[i] = a[j];
+			a[j] = tmp;
+		}
+	}
+
+	// Note: called by the superclass constructor before any field initializers have run
+	@Override
+	public void setSeed(long seed) {
+		this.seed = seed;
+		source = new SplittableRandom(seed);
+	}
+
+	@Override
+	protected int next(int bits) {
+		probe.randomDraw();
+		return source.nextInt() >>> (32 - bits);
+	}
+
+	@Override
+	public int nextInt() {
+		probe.randomDraw();
+		return source.nextInt();
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		probe.randomDraw();
+		return source.nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		probe.randomDraw();
+		return source.nextLong();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		probe.randomDraw();
+		return source.nextBoolean();
+	}
+
+	@Override
+	public double nextDouble() {
+		probe.randomDraw();
+		return source.nextDouble();
+	}
+}
\ No newline at end of file
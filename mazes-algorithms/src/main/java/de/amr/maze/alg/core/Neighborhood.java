@@ -0,0 +1,64 @@
+package de.amr.maze.alg.core;
+
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+
+/**
+ * Primitive neighbor lookup for the cells of a grid, used in the inner loops of generators instead
+ * of {@link GridGraph2D#neighbor(int, byte)} and {@link Topology#dirs()}, which create objects for
+ * each call.
+ * <p>
+ * Directions are numbered {@code 0 .. dirCount() - 1} like in the grid topology.
+ *
+ * @author Armin Reichert
+ */
+public final class Neighborhood {
+
+	/** Returned by {@link #neighbor(int, int)} if there is no neighbor. */
+	public static final int NO_CELL = -1;
+
+	private final int numCols;
+	private final int numRows;
+	private final int dirCount;
+	private final int[] dx;
+	private final int[] dy;
+	private final int[] offset;
+
+	public Neighborhood(GridGraph2D<?, ?> grid) {
+		Topology top = grid.getTopology();
+		numCols = grid.numCols();
+		numRows = grid.numRows();
+		dirCount = top.dirCount();
+		dx = new int[dirCount];
+		dy = new int[dirCount];
+		offset = new int[dirCount];
+		for (byte dir = 0; dir < dirCount; ++dir) {
+			dx[dir] = top.dx(dir);
+			dy[dir] = top.dy(dir);
+			offset[dir] = dy[dir] * numCols + dx[dir];
+		}
+	}
+
+	/**
+	 * @return number of directions
+	 */
+	public int dirCount() {
+		return dirCount;
+	}
+
+	/**
+	 * @param cell
+	 *               grid cell
+	 * @param dir
+	 *               direction
+	 * @return neighbor of the cell in the given direction or {@link #NO_CELL} if the neighbor is
+	 *         outside of the grid
+	 */
+	public int neighbor(int cell, int dir) {
+		int col = cell % numCols + dx[dir], row = cell / numCols + dy[dir];
+		if (col < 0 || col >= numCols || row < 0 || row >= numRows) {
+			return NO_CELL;
+		}
+		return cell + offset[dir];
+	}
+}
\ No newline at end of file
@@ -0,0 +1,578 @@
+package de.amr.maze.alg.core;
+
+import static de.amr.graph.grid.impl.Grid4Topology.E;
+import static de.amr.graph.grid.impl.Grid4Topology.N;
+import static de.amr.graph.grid.impl.Grid4Topology.S;
+import static de.amr.graph.grid.impl.Grid4Topology.W;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import de.amr.graph.core.api.Edge;
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.core.api.UndirectedEdge;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.GridPosition;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid4Topology;
+
+/**
+ * Grid graph with 4-neighborhood storing the traversal state and the passages of each cell in 4
+ * bits of a {@code long[]} array.
+ * <p>
+ * Per cell, 2 bits encode the traversal state (0 means "default label") and 2 bits encode the
+ * passages towards east and south. Passages towards north and west are stored by the neighbor
+ * cell. A grid with 1 million cells uses 500 KB.
+ * <p>
+ * Edge labels are not stored, the default edge label is returned for every edge. Adding or setting
+ * any other label throws an {@link UnsupportedOperationException}.
+ * <p>
+ * Only the 4-neighborhood is supported, there are no bits for diagonal passages. Mazes on grids with
+ * 8-neighborhood need a grid created by {@link de.amr.graph.grid.impl.GridFactory}.
+ *
+ * @author Armin Reichert
+ */
+public class PackedGridGraph implements GridGraph2D<TraversalState, Integer> {
+
+	private static final TraversalState[] STATES = TraversalState.values();
+	private static final int CELLS_PER_WORD = 16;
+	private static final long STATE_MASK = 0b0011;
+	private static final long EAST_BIT = 0b0100;
+	private static final long SOUTH_BIT = 0b1000;
+	private static final byte[] DIRS = { N, E, S, W };
+
+	private final int numCols;
+	private final int numRows;
+	private final long[] words;
+	private int numEdges;
+	private TraversalState defaultState; // null if the default state is given by a function
+	private Function<Integer, TraversalState> fnDefaultVertexLabel;
+	private BiFunction<Integer, Integer, Integer> fnDefaultEdgeLabel;
+
+	/**
+	 * Creates a grid without edges where all cells have the given default state.
+	 *
+	 * @param numCols
+	 *                       number of columns
+	 * @param numRows
+	 *                       number of rows
+	 * @param defaultState
+	 *                       default traversal state of each cell
+	 */
+	public PackedGridGraph(int numCols, int numRows, TraversalState defaultState) {
+		this(numCols, numRows, Grid4Topology.get(), defaultState);
+	}
+
+	/**
+	 * Creates a grid without edges where all cells have the given default state.
+	 *
+	 * @param numCols
+	 *                       number of columns
+	 * @param numRows
+	 *                       number of rows
+	 * @param top
+	 *                       grid topology, must be the 4-neighborhood
+	 * @param defaultState
+	 *                       default traversal state of each cell
+	 * @throws IllegalArgumentException
+	 *                                    if the topology is not the 4-neighborhood
+	 */
+	public PackedGridGraph(int numCols, int numRows, Topology top, TraversalState defaultState) {
+		if (top.dirCount() != 4) {
+			throw new IllegalArgumentException("Packed grid only supports 4-neighborhood");
+		}
+		if (numCols <= 0 || numRows <= 0) {
+			throw new IllegalArgumentException(String.format("Illegal grid size: %d x %d", numCols, numRows));
+		}
+		if ((long) numCols * numRows > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(String.format("Grid too large: %d x %d", numCols, numRows));
+		}
+		this.numCols = numCols;
+		this.numRows = numRows;
+		words = new long[(numCols * numRows + CELLS_PER_WORD - 1) / CELLS_PER_WORD];
+		setDefaultState(defaultState);
+		fnDefaultEdgeLabel = (u, v) -> 0;
+	}
+
+	/**
+	 * Sets the same default state for all cells. Reading a cell in the default state then calls no
+	 * function and does not box the cell index, unlike with {@link #setDefaultVertexLabel(Function)}.
+	 *
+	 * @param state
+	 *                default traversal state of each cell
+	 */
+	public void setDefaultState(TraversalState state) {
+		defaultState = Objects.requireNonNull(state);
+		fnDefaultVertexLabel = cell -> state;
+	}
+
+	/**
+	 * Removes all edges and resets all cells to the default state.
+	 */
+	public void clear() {
+		Arrays.fill(words, 0);
+		numEdges = 0;
+	}
+
+	/**
+	 * Writes the passages of all cells to the buffer, using 2 bits per cell (bit 0: east passage, bit
+	 * 1: south passage) and 4 cells per byte in row-major order. The buffer must have
+	 * {@code ceil(numVertices() / 4)} bytes remaining.
+	 *
+	 * @param buffer
+	 *                 target buffer
+	 */
+	public void exportPassages(ByteBuffer buffer) {
+		int numBytes = (numVertices() + 3) / 4;
+		for (int i = 0; i < words.length; ++i) {
+			int passages = compressPassages(words[i]);
+			for (int b = 0; b < 4 && 4 * i + b < numBytes; ++b) {
+				buffer.put((byte) (passages >>> 8 * b));
+			}
+		}
+	}
+
+	/**
+	 * Replaces the passages of all cells by the passages read from the buffer in the format written by
+	 * {@link #exportPassages(ByteBuffer)}. Cell states are not changed.
+	 *
+	 * @param buffer
+	 *                 source buffer
+	 * @throws IllegalArgumentException
+	 *                                    if the buffer contains passages leaving the grid
+	 */
+	public void importPassages(ByteBuffer buffer) {
+		int numBytes = (numVertices() + 3) / 4;
+		numEdges = 0;
+		for (int i = 0; i < words.length; ++i) {
+			int passages = 0;
+			for (int b = 0; b < 4 && 4 * i + b < numBytes; ++b) {
+				passages |= (buffer.get() & 0xFF) << 8 * b;
+			}
+			long word = expandPassages(passages);
+			words[i] = words[i] & 0x3333_3333_3333_3333L | word;
+			numEdges += Long.bitCount(word);
+		}
+		for (int row = 0; row < numRows; ++row) {
+			checkNoPassage(cell(numCols - 1, row), EAST_BIT);
+		}
+		for (int col = 0; col < numCols; ++col) {
+			checkNoPassage(cell(col, numRows - 1), SOUTH_BIT);
+		}
+		for (int cell = numVertices(); cell < words.length * CELLS_PER_WORD; ++cell) {
+			checkNoPassage(cell, EAST_BIT | SOUTH_BIT);
+		}
+	}
+
+	private void checkNoPassage(int cell, long bits) {
+		if ((bits(cell) & bits) != 0) {
+			throw new IllegalArgumentException("Passage leaving the grid at cell " + cell);
+		}
+	}
+
+	/**
+	 * Collects the passage bits (bits 2 and 3 of each nibble) of 16 cells into 32 bits.
+	 */
+	private static int compressPassages(long word) {
+		long x = (word >>> 2) & 0x3333_3333_3333_3333L;
+		x = (x | x >>> 2) & 0x0F0F_0F0F_0F0F_0F0FL;
+		x = (x | x >>> 4) & 0x00FF_00FF_00FF_00FFL;
+		x = (x | x >>> 8) & 0x0000_FFFF_0000_FFFFL;
+		x = (x | x >>> 16) & 0xFFFF_FFFFL;
+		return (int) x;
+	}
+
+	/**
+	 * Inverse of {@link #compressPassages(long)}.
+	 */
+	private static long expandPassages(int passages) {
+		long x = passages & 0xFFFF_FFFFL;
+		x = (x | x << 16) & 0x0000_FFFF_0000_FFFFL;
+		x = (x | x << 8) & 0x00FF_00FF_00FF_00FFL;
+		x = (x | x << 4) & 0x0F0F_0F0F_0F0F_0F0FL;
+		x = (x | x << 2) & 0x3333_3333_3333_3333L;
+		return x << 2;
+	}
+
+	// bit-level access
+
+	private static int shift(int cell) {
+		return (cell & (CELLS_PER_WORD - 1)) << 2;
+	}
+
+	private long bits(int cell) {
+		return words[cell >>> 4] >>> shift(cell);
+	}
+
+	private boolean testBit(int cell, long bit) {
+		return (bits(cell) & bit) != 0;
+	}
+
+	private void setBit(int cell, long bit) {
+		words[cell >>> 4] |= bit << shift(cell);
+	}
+
+	private void clearBit(int cell, long bit) {
+		words[cell >>> 4] &= ~(bit << shift(cell));
+	}
+
+	/**
+	 * Computes the cell owning the passage bit for the edge {@code (u, v)}.
+	 *
+	 * @return the passage bit shifted by 4 times the owner cell or {@code -1} if the cells are not
+	 *         neighbors
+	 */
+	private long passage(int u, int v) {
+		if (v == u + 1 && row(u) == row(v)) {
+			return (long) u << 4 | EAST_BIT;
+		}
+		if (u == v + 1 && row(u) == row(v)) {
+			return (long) v << 4 | EAST_BIT;
+		}
+		if (v == u + numCols) {
+			return (long) u << 4 | SOUTH_BIT;
+		}
+		if (u == v + numCols) {
+			return (long) v << 4 | SOUTH_BIT;
+		}
+		return -1;
+	}
+
+	private long checkedPassage(int u, int v) {
+		checkCell(u);
+		checkCell(v);
+		long passage = passage(u, v);
+		if (passage == -1) {
+			throw new IllegalArgumentException(String.format("Cells %d and %d are not neighbors", u, v));
+		}
+		return passage;
+	}
+
+	private void checkCell(int cell) {
+		if (cell < 0 || cell >= numVertices()) {
+			throw new IndexOutOfBoundsException("Invalid cell: " + cell);
+		}
+	}
+
+	// VertexLabeling
+
+	@Override
+	public TraversalState get(int cell) {
+		int code = (int) (bits(cell) & STATE_MASK);
+		return code != 0 ? STATES[code - 1] : getDefaultVertexLabel(cell);
+	}
+
+	@Override
+	public void set(int cell, TraversalState state) {
+		int shift = shift(cell);
+		long code = state == null ? 0 : state.ordinal() + 1;
+		words[cell >>> 4] = words[cell >>> 4] & ~(STATE_MASK << shift) | code << shift;
+	}
+
+	@Override
+	public void clearVertexLabels() {
+		for (int i = 0; i < words.length; ++i) {
+			words[i] &= ~0x3333_3333_3333_3333L;
+		}
+	}
+
+	@Override
+	public void setDefaultVertexLabel(Function<Integer, TraversalState> fnDefaultLabel) {
+		defaultState = null;
+		fnDefaultVertexLabel = fnDefaultLabel;
+	}
+
+	@Override
+	public TraversalState getDefaultVertexLabel(int cell) {
+		return defaultState != null ? defaultState : fnDefaultVertexLabel.apply(cell);
+	}
+
+	// EdgeLabeling
+
+	@Override
+	public Integer getEdgeLabel(int u, int v) {
+		return fnDefaultEdgeLabel.apply(u, v);
+	}
+
+	/**
+	 * Edge labels are not stored, so only the default label of the edge is accepted.
+	 *
+	 * @throws UnsupportedOperationException
+	 *                                         if the label is not the default label of the edge
+	 */
+	@Override
+	public void setEdgeLabel(int u, int v, Integer label) {
+		checkDefaultEdgeLabel(u, v, label);
+	}
+
+	@Override
+	public void clearEdgeLabels() {
+	}
+
+	@Override
+	public void setDefaultEdgeLabel(BiFunction<Integer, Integer, Integer> fnDefaultLabel) {
+		fnDefaultEdgeLabel = fnDefaultLabel;
+	}
+
+	@Override
+	public Integer getDefaultEdgeLabel(int u, int v) {
+		return fnDefaultEdgeLabel.apply(u, v);
+	}
+
+	// Graph
+
+	@Override
+	public IntStream vertices() {
+		return IntStream.range(0, numVertices());
+	}
+
+	@Override
+	public int numVertices() {
+		return numCols * numRows;
+	}
+
+	@Override
+	public Stream<Edge> edges() {
+		return vertices().boxed().flatMap(cell -> {
+			boolean east = testBit(cell, EAST_BIT), south = testBit(cell, SOUTH_BIT);
+			if (east && south) {
+				return Stream.of(new UndirectedEdge(cell, cell + 1), new UndirectedEdge(cell, cell + numCols));
+			}
+			if (east) {
+				return Stream.of(new UndirectedEdge(cell, cell + 1));
+			}
+			if (south) {
+				return Stream.of(new UndirectedEdge(cell, cell + numCols));
+			}
+			return Stream.empty();
+		});
+	}
+
+	@Override
+	public int numEdges() {
+		return numEdges;
+	}
+
+	@Override
+	public boolean isDirected() {
+		return false;
+	}
+
+	@Override
+	public void addVertex(int v) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void removeVertex(int v) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addEdge(int u, int v) {
+		long passage = checkedPassage(u, v);
+		int owner = (int) (passage >>> 4);
+		long bit = passage & 0xF;
+		if (testBit(owner, bit)) {
+			throw new IllegalStateException(String.format("Edge (%d, %d) already exists", u, v));
+		}
+		setBit(owner, bit);
+		++numEdges;
+	}
+
+	/**
+	 * Edge labels are not stored, so only the default label of the edge is accepted.
+	 *
+	 * @throws UnsupportedOperationException
+	 *                                         if the label is not the default label of the edge
+	 */
+	@Override
+	public void addEdge(int u, int v, Integer label) {
+		checkDefaultEdgeLabel(u, v, label);
+		addEdge(u, v);
+	}
+
+	private void checkDefaultEdgeLabel(int u, int v, Integer label) {
+		if (!Objects.equals(label, getDefaultEdgeLabel(u, v))) {
+			throw new UnsupportedOperationException("Edge labels are not stored by packed grid");
+		}
+	}
+
+	@Override
+	public Optional<Edge> edge(int u, int v) {
+		return adjacent(u, v) ? Optional.of(new UndirectedEdge(u, v)) : Optional.empty();
+	}
+
+	@Override
+	public void removeEdge(int u, int v) {
+		long passage = checkedPassage(u, v);
+		int owner = (int) (passage >>> 4);
+		long bit = passage & 0xF;
+		if (testBit(owner, bit)) {
+			clearBit(owner, bit);
+			--numEdges;
+		}
+	}
+
+	@Override
+	public void removeEdge(Edge edge) {
+		removeEdge(edge.either(), edge.other());
+	}
+
+	@Override
+	public void removeEdges() {
+		for (int i = 0; i < words.length; ++i) {
+			words[i] &= 0x3333_3333_3333_3333L;
+		}
+		numEdges = 0;
+	}
+
+	@Override
+	public boolean adjacent(int u, int v) {
+		long passage = passage(u, v);
+		return passage != -1 && testBit((int) (passage >>> 4), passage & 0xF);
+	}
+
+	@Override
+	public IntStream adj(int cell) {
+		return neighbors(cell).filter(neighbor -> adjacent(cell, neighbor)).mapToInt(Integer::intValue);
+	}
+
+	@Override
+	public int degree(int cell) {
+		return (int) adj(cell).count();
+	}
+
+	// GridGraph2D
+
+	@Override
+	public int numCols() {
+		return numCols;
+	}
+
+	@Override
+	public int numRows() {
+		return numRows;
+	}
+
+	@Override
+	public Topology getTopology() {
+		return Grid4Topology.get();
+	}
+
+	@Override
+	public int cell(int col, int row) {
+		return row * numCols + col;
+	}
+
+	@Override
+	public int cell(GridPosition position) {
+		switch (position) {
+		case TOP_LEFT:
+			return cell(0, 0);
+		case TOP_RIGHT:
+			return cell(numCols - 1, 0);
+		case CENTER:
+			return cell(numCols / 2, numRows / 2);
+		case BOTTOM_LEFT:
+			return cell(0, numRows - 1);
+		case BOTTOM_RIGHT:
+			return cell(numCols - 1, numRows - 1);
+		default:
+			throw new IllegalArgumentException("Unknown grid position: " + position);
+		}
+	}
+
+	@Override
+	public int col(int cell) {
+		return cell % numCols;
+	}
+
+	@Override
+	public int row(int cell) {
+		return cell / numCols;
+	}
+
+	@Override
+	public boolean isValidCol(int col) {
+		return 0 <= col && col < numCols;
+	}
+
+	@Override
+	public boolean isValidRow(int row) {
+		return 0 <= row && row < numRows;
+	}
+
+	private int neighborCell(int cell, byte dir) {
+		int col = col(cell), row = row(cell);
+		switch (dir) {
+		case N:
+			return row > 0 ? cell - numCols : NO_VERTEX;
+		case E:
+			return col < numCols - 1 ? cell + 1 : NO_VERTEX;
+		case S:
+			return row < numRows - 1 ? cell + numCols : NO_VERTEX;
+		case W:
+			return col > 0 ? cell - 1 : NO_VERTEX;
+		default:
+			throw new IllegalArgumentException("Illegal direction: " + dir);
+		}
+	}
+
+	@Override
+	public Stream<Integer> neighbors(int cell) {
+		return Stream.of(N, E, S, W).map(dir -> neighborCell(cell, dir)).filter(neighbor -> neighbor != NO_VERTEX);
+	}
+
+	@Override
+	public Optional<Integer> neighbor(int cell, byte dir) {
+		int neighbor = neighborCell(cell, dir);
+		return neighbor != NO_VERTEX ? Optional.of(neighbor) : Optional.empty();
+	}
+
+	@Override
+	public boolean areNeighbors(int either, int other) {
+		return passage(either, other) != -1;
+	}
+
+	@Override
+	public OptionalInt direction(int either, int other) {
+		for (byte dir : DIRS) {
+			if (neighborCell(either, dir) == other) {
+				return OptionalInt.of(dir);
+			}
+		}
+		return OptionalInt.empty();
+	}
+
+	@Override
+	public boolean isConnected(int cell, byte dir) {
+		int neighbor = neighborCell(cell, dir);
+		return neighbor != NO_VERTEX && adjacent(cell, neighbor);
+	}
+
+	@Override
+	public void fill() {
+		fillOrthogonal();
+	}
+
+	@Override
+	public void fillOrthogonal() {
+		for (int cell = 0; cell < numVertices(); ++cell) {
+			if (col(cell) < numCols - 1) {
+				setBit(cell, EAST_BIT);
+			}
+			if (row(cell) < numRows - 1) {
+				setBit(cell, SOUTH_BIT);
+			}
+		}
+		numEdges = (numCols - 1) * numRows + numCols * (numRows - 1);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package de.amr.maze.alg.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Runs an action for a range of integers in a given fork/join pool.
+ * <p>
+ * Parallel streams always run in the pool of the calling thread, or in the common pool. Starting the
+ * stream inside a task of the given pool lets a generator use a pool with any number of threads.
+ *
+ * @author Armin Reichert
+ */
+public final class ParallelRange {
+
+	private ParallelRange() {
+	}
+
+	/**
+	 * Calls the action for each integer of the range {@code from .. to - 1} in parallel and returns
+	 * when all calls are done.
+	 *
+	 * @param pool
+	 *                 fork/join pool running the calls
+	 * @param from
+	 *                 first integer (inclusive)
+	 * @param to
+	 *                 last integer (exclusive)
+	 * @param action
+	 *                 action
+	 */
+	public static void forEach(ForkJoinPool pool, int from, int to, IntConsumer action) {
+		pool.invoke(ForkJoinTask.adapt(() -> IntStream.range(from, to).parallel().forEach(action)));
+	}
+}
\ No newline at end of file
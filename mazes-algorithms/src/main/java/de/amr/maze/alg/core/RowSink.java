@@ -0,0 +1,27 @@
+package de.amr.maze.alg.core;
+
+import java.util.BitSet;
+
+/**
+ * Receives the passages of a maze row by row, used by generators that create mazes in row order.
+ *
+ * @author Armin Reichert
+ */
+@FunctionalInterface
+public interface RowSink {
+
+	/**
+	 * Receives the passages of a completed row. The bit sets are reused for the next row, so the sink
+	 * must copy what it wants to keep.
+	 * 
+	 * @param row
+	 *                row index
+	 * @param east
+	 *                bit {@code col} is set if there is a passage from {@code (col, row)} to
+	 *                {@code (col + 1, row)}
+	 * @param south
+	 *                bit {@code col} is set if there is a passage from {@code (col, row)} to
+	 *                {@code (col, row + 1)}
+	 */
+	void accept(int row, BitSet east, BitSet south);
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package de.amr.maze.alg.core;
+
+/**
+ * Stateless random bits computed from a seed and a value, using the output function of the
+ * SplitMix64 generator.
+ * <p>
+ * Parallel generators use it instead of a shared random source: each random decision is a function
+ * of the seed and of what is decided (a cell, an edge, a round), so it does not depend on the thread
+ * making it or on the order in which the decisions are made.
+ *
+ * @author Armin Reichert
+ *
+ * @see <a href="https://doi.org/10.1145/2714064.2660195">Steele, Lea, Flood: Fast Splittable
+ *      Pseudorandom Number Generators</a>
+ */
+public final class SplitMix64 {
+
+	private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+
+	private SplitMix64() {
+	}
+
+	/**
+	 * @param z
+	 *            any value
+	 * @return the SplitMix64 output function applied to the value
+	 */
+	public static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * @param seed
+	 *                seed
+	 * @param value
+	 *                value
+	 * @return 64 random bits, different values give independent bits
+	 */
+	public static long hash(long seed, long value) {
+		return mix(seed + value * GOLDEN_GAMMA);
+	}
+
+	/**
+	 * @param seed
+	 *               seed
+	 * @param a
+	 *               first value
+	 * @param b
+	 *               second value
+	 * @return 64 random bits, different pairs of values give independent bits
+	 */
+	public static long hash(long seed, int a, int b) {
+		return hash(seed, (long) a << 32 | b & 0xFFFF_FFFFL);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package de.amr.maze.alg.core;
+
+/**
+ * Disjoint sets over the elements {@code 0 .. n - 1}, stored in two {@code int} arrays.
+ * <p>
+ * Uses union by size and path halving, so {@link #find(int)} and {@link #union(int, int)} run in
+ * almost constant amortized time. If two sets of the same size are united, the representative of
+ * the first set stays the representative.
+ *
+ * @author Armin Reichert
+ */
+public final class UnionFind {
+
+	private final int[] parent;
+	private final int[] size;
+	private int numSets;
+
+	/**
+	 * Creates {@code n} singleton sets.
+	 *
+	 * @param n
+	 *            number of elements
+	 */
+	public UnionFind(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Illegal number of elements: " + n);
+		}
+		parent = new int[n];
+		size = new int[n];
+		for (int i = 0; i < n; ++i) {
+			parent[i] = i;
+			size[i] = 1;
+		}
+		numSets = n;
+	}
+
+	/**
+	 * @param x
+	 *            element
+	 * @return representative of the set containing the element
+	 */
+	public int find(int x) {
+		while (parent[x] != x) {
+			parent[x] = parent[parent[x]];
+			x = parent[x];
+		}
+		return x;
+	}
+
+	/**
+	 * Unites the sets containing the given elements.
+	 *
+	 * @param x
+	 *            element
+	 * @param y
+	 *            element
+	 * @return {@code true} if the elements were in different sets
+	 */
+	public boolean union(int x, int y) {
+		int rx = find(x), ry = find(y);
+		if (rx == ry) {
+			return false;
+		}
+		if (size[rx] < size[ry]) {
+			int tmp = rx;
+			rx = ry;
+			ry = tmp;
+		}
+		parent[ry] = rx;
+		size[rx] += size[ry];
+		--numSets;
+		return true;
+	}
+
+	/**
+	 * @param x
+	 *            element
+	 * @param y
+	 *            element
+	 * @return {@code true} if the elements are in the same set
+	 */
+	public boolean connected(int x, int y) {
+		return find(x) == find(y);
+	}
+
+	/**
+	 * @param x
+	 *            element
+	 * @return number of elements in the set containing the element
+	 */
+	public int size(int x) {
+		return size[find(x)];
+	}
+
+	/**
+	 * @return number of sets
+	 */
+	public int numSets() {
+		return numSets;
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int numElements() {
+		return parent.length;
+	}
+}
\ No newline at end of file
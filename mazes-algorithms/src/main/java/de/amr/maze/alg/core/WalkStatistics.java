@@ -0,0 +1,125 @@
+package de.amr.maze.alg.core;
+
+import java.util.Arrays;
+
+/**
+ * Probe collecting statistics about the loop-erased random walks of Wilson's algorithm: number of
+ * walks, total and erased steps and histograms of the walk lengths and erased lengths.
+ * <p>
+ * Histogram bucket {@code k} counts the walks with a length in {@code [2^(k-1), 2^k)}, bucket 0
+ * counts walks of length 0.
+ *
+ * @author Armin Reichert
+ */
+public class WalkStatistics implements GenerationProbe {
+
+	private static final int NUM_BUCKETS = 33;
+
+	private final long[] walkLengths = new long[NUM_BUCKETS];
+	private final long[] erasedLengths = new long[NUM_BUCKETS];
+	private long walks;
+	private long steps;
+	private long keptSteps;
+	private int maxWalkLength;
+
+	/**
+	 * @param length
+	 *                 non-negative length
+	 * @return histogram bucket of the given length
+	 */
+	public static int bucket(int length) {
+		return 32 - Integer.numberOfLeadingZeros(length);
+	}
+
+	/**
+	 * Resets all counters.
+	 */
+	public void reset() {
+		Arrays.fill(walkLengths, 0);
+		Arrays.fill(erasedLengths, 0);
+		walks = steps = keptSteps = 0;
+		maxWalkLength = 0;
+	}
+
+	@Override
+	public void walkCompleted(int steps, int kept) {
+		++walks;
+		this.steps += steps;
+		keptSteps += kept;
+		maxWalkLength = Math.max(maxWalkLength, steps);
+		++walkLengths[bucket(steps)];
+		++erasedLengths[bucket(steps - kept)];
+	}
+
+	public long getWalks() {
+		return walks;
+	}
+
+	/**
+	 * @return total number of walk steps
+	 */
+	public long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * @return number of walk steps that became maze passages
+	 */
+	public long getKeptSteps() {
+		return keptSteps;
+	}
+
+	/**
+	 * @return number of walk steps erased as part of loops
+	 */
+	public long getErasedSteps() {
+		return steps - keptSteps;
+	}
+
+	public int getMaxWalkLength() {
+		return maxWalkLength;
+	}
+
+	/**
+	 * @return average number of walk steps per cell added to the maze
+	 */
+	public double getStepsPerAddedCell() {
+		return keptSteps == 0 ? 0 : (double) steps / keptSteps;
+	}
+
+	/**
+	 * @return histogram of the walk lengths (copy)
+	 */
+	public long[] getWalkLengthHistogram() {
+		return Arrays.copyOf(walkLengths, NUM_BUCKETS);
+	}
+
+	/**
+	 * @return histogram of the number of erased steps per walk (copy)
+	 */
+	public long[] getErasedLengthHistogram() {
+		return Arrays.copyOf(erasedLengths, NUM_BUCKETS);
+	}
+
+	private static String format(long[] histogram) {
+		StringBuilder sb = new StringBuilder("[");
+		int last = histogram.length - 1;
+		while (last > 0 && histogram[last] == 0) {
+			--last;
+		}
+		for (int k = 0; k <= last; ++k) {
+			if (k > 0) {
+				sb.append(", ");
+			}
+			sb.append(k == 0 ? "0" : "<" + (1L << k)).append(": ").append(histogram[k]);
+		}
+		return sb.append("]").toString();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("walks=%d, steps=%d, erased=%d, steps/cell=%.2f, max=%d, lengths=%s, erased lengths=%s",
+				walks, steps, getErasedSteps(), getStepsPerAddedCell(), maxWalkLength, format(walkLengths),
+				format(erasedLengths));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package de.amr.maze.alg.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+import de.amr.maze.alg.core.EdgeSink;
+
+/**
+ * Reads edges written by an {@link EdgeStreamWriter} from a channel.
+ *
+ * @author Armin Reichert
+ */
+public class EdgeStreamReader implements Closeable {
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer;
+
+	/**
+	 * Creates a reader with a 64 KB buffer.
+	 * 
+	 * @param channel
+	 *                  input channel
+	 */
+	public EdgeStreamReader(ReadableByteChannel channel) {
+		this(channel, 1 << 16);
+	}
+
+	/**
+	 * @param channel
+	 *                     input channel
+	 * @param bufferSize
+	 *                     buffer size in bytes, at least 8
+	 */
+	public EdgeStreamReader(ReadableByteChannel channel, int bufferSize) {
+		if (bufferSize < 8) {
+			throw new IllegalArgumentException("Buffer size must be at least 8, but is " + bufferSize);
+		}
+		this.channel = Objects.requireNonNull(channel);
+		buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	/**
+	 * Reads all edges until the end of the stream and passes them to the given sink.
+	 * 
+	 * @param sink
+	 *               edge sink
+	 * @return number of edges read
+	 * @throws IOException
+	 *                       if reading fails or the stream ends inside an edge
+	 */
+	public long readAll(EdgeSink sink) throws IOException {
+		long edgeCount = 0;
+		buffer.clear();
+		while (channel.read(buffer) != -1) {
+			buffer.flip();
+			while (buffer.remaining() >= 8) {
+				sink.accept(buffer.getInt(), buffer.getInt());
+				++edgeCount;
+			}
+			buffer.compact();
+		}
+		if (buffer.position() > 0) {
+			throw new IOException("Edge stream ends inside an edge");
+		}
+		return edgeCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package de.amr.maze.alg.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import de.amr.maze.alg.core.EdgeSink;
+
+/**
+ * Edge sink writing each edge as a pair of 32-bit integers (big-endian) to a channel, e.g. a file
+ * or socket channel. The edges are buffered, so only the buffer is held in memory.
+ *
+ * @author Armin Reichert
+ */
+public class EdgeStreamWriter implements EdgeSink, Closeable {
+
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer;
+	private long edgeCount;
+
+	/**
+	 * Creates a writer with a 64 KB buffer.
+	 * 
+	 * @param channel
+	 *                  output channel
+	 */
+	public EdgeStreamWriter(WritableByteChannel channel) {
+		this(channel, 1 << 16);
+	}
+
+	/**
+	 * @param channel
+	 *                     output channel
+	 * @param bufferSize
+	 *                     buffer size in bytes, at least 8
+	 */
+	public EdgeStreamWriter(WritableByteChannel channel, int bufferSize) {
+		if (bufferSize < 8) {
+			throw new IllegalArgumentException("Buffer size must be at least 8, but is " + bufferSize);
+		}
+		this.channel = Objects.requireNonNull(channel);
+		buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	/**
+	 * @throws UncheckedIOException
+	 *                                if writing to the channel fails
+	 */
+	@Override
+	public void accept(int u, int v) {
+		if (buffer.remaining() < 8) {
+			flush();
+		}
+		buffer.putInt(u).putInt(v);
+		++edgeCount;
+	}
+
+	/**
+	 * @return number of edges written so far
+	 */
+	public long getEdgeCount() {
+		return edgeCount;
+	}
+
+	/**
+	 * Writes the buffered edges to the channel.
+	 * 
+	 * @throws UncheckedIOException
+	 *                                if writing to the channel fails
+	 */
+	public void flush() {
+		buffer.flip();
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Flushes the buffered edges and closes the channel.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} catch (UncheckedIOException e) {
+			channel.close();
+			throw e.getCause();
+		}
+		channel.close();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package de.amr.maze.alg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Header of a binary maze file.
+ * <p>
+ * File layout (big-endian):
+ * 
+ * <pre>
+ * offset  size  content
+ *  0      4     magic number "MAZE"
+ *  4      2     format version
+ *  6      1     topology (number of directions, 4 or 8)
+ *  7      1     reserved (0)
+ *  8      4     number of columns
+ * 12      4     number of rows
+ * 16      8     seed of the random source used to create the maze
+ * 24      8     reserved (0)
+ * 32      ...   passages, 2 bits per cell (bit 0: east, bit 1: south), 4 cells per byte, row-major
+ * </pre>
+ * 
+ * Diagonal passages cannot be stored.
+ *
+ * @author Armin Reichert
+ */
+public class MazeFileHeader {
+
+	public static final int MAGIC = 0x4D415A45; // "MAZE"
+	public static final short VERSION = 1;
+	public static final int SIZE = 32;
+
+	private final int numCols;
+	private final int numRows;
+	private final int dirCount;
+	private final long seed;
+
+	public MazeFileHeader(int numCols, int numRows, int dirCount, long seed) {
+		if (numCols <= 0 || numRows <= 0) {
+			throw new IllegalArgumentException(String.format("Illegal grid size: %d x %d", numCols, numRows));
+		}
+		if (dirCount != 4 && dirCount != 8) {
+			throw new IllegalArgumentException("Illegal topology: " + dirCount + " directions");
+		}
+		this.numCols = numCols;
+		this.numRows = numRows;
+		this.dirCount = dirCount;
+		this.seed = seed;
+	}
+
+	public int getNumCols() {
+		return numCols;
+	}
+
+	public int getNumRows() {
+		return numRows;
+	}
+
+	public int getDirCount() {
+		return dirCount;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return size of the passage data in bytes
+	 */
+	public long getDataSize() {
+		return ((long) numCols * numRows + 3) / 4;
+	}
+
+	/**
+	 * @return number of cells
+	 */
+	public long getNumCells() {
+		return (long) numCols * numRows;
+	}
+
+	/**
+	 * @return size of the file in bytes
+	 */
+	public long getFileSize() {
+		return SIZE + getDataSize();
+	}
+
+	void write(ByteBuffer buffer) {
+		buffer.putInt(MAGIC).putShort(VERSION).put((byte) dirCount).put((byte) 0);
+		buffer.putInt(numCols).putInt(numRows).putLong(seed).putLong(0);
+	}
+
+	static MazeFileHeader read(ByteBuffer buffer) throws IOException {
+		if (buffer.remaining() < SIZE || buffer.getInt() != MAGIC) {
+			throw new IOException("Not a maze file");
+		}
+		short version = buffer.getShort();
+		if (version != VERSION) {
+			throw new IOException("Unsupported maze file version: " + version);
+		}
+		int dirCount = buffer.get();
+		buffer.get();
+		int numCols = buffer.getInt(), numRows = buffer.getInt();
+		long seed = buffer.getLong();
+		buffer.getLong();
+		try {
+			return new MazeFileHeader(numCols, numRows, dirCount, seed);
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Invalid maze file header", e);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package de.amr.maze.alg.io;
+
+import static de.amr.graph.core.api.TraversalState.COMPLETED;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.PackedGridGraph;
+
+/**
+ * Reads mazes from binary maze files, see {@link MazeFileHeader} for the format.
+ *
+ * @author Armin Reichert
+ */
+public class MazeFileReader {
+
+	/**
+	 * @param file
+	 *               maze file
+	 * @return the file header
+	 * @throws IOException
+	 *                       if reading fails or the file is no maze file
+	 */
+	public static MazeFileHeader readHeader(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, READ)) {
+			return readHeader(channel);
+		}
+	}
+
+	private static MazeFileHeader readHeader(FileChannel channel) throws IOException {
+		long size = Math.min(channel.size(), MazeFileHeader.SIZE);
+		return MazeFileHeader.read(channel.map(MapMode.READ_ONLY, 0, size));
+	}
+
+	/**
+	 * Reads a maze from a memory-mapped file. Mazes with 4-neighborhood are loaded into a
+	 * {@link PackedGridGraph} by copying the passage data word-wise, mazes with 8-neighborhood into a
+	 * default grid graph. All cells of the returned grid are in state {@link TraversalState#COMPLETED}.
+	 * 
+	 * @param file
+	 *               maze file
+	 * @return the maze
+	 * @throws IOException
+	 *                       if reading fails or the file is no valid maze file
+	 */
+	public static GridGraph2D<TraversalState, Integer> read(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, READ)) {
+			MazeFileHeader header = readHeader(channel);
+			if (header.getNumCells() > Integer.MAX_VALUE) {
+				throw new IOException(
+						String.format("Maze with %d cells is too large to be loaded", header.getNumCells()));
+			}
+			if (channel.size() != header.getFileSize()) {
+				throw new IOException(String.format("Maze file has wrong size, expected %d but is %d bytes",
+						header.getFileSize(), channel.size()));
+			}
+			MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, MazeFileHeader.SIZE, header.getDataSize());
+			try {
+				if (header.getDirCount() == 4) {
+					PackedGridGraph grid = new PackedGridGraph(header.getNumCols(), header.getNumRows(), COMPLETED);
+					grid.importPassages(buffer);
+					return grid;
+				}
+				GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(header.getNumCols(),
+						header.getNumRows(), Grid8Topology.get(), COMPLETED, 0);
+				readPassages(grid, buffer);
+				return grid;
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Invalid maze file data", e);
+			}
+		}
+	}
+
+	private static void readPassages(GridGraph2D<TraversalState, Integer> grid, ByteBuffer buffer) {
+		int numCols = grid.numCols(), numRows = grid.numRows(), numCells = grid.numVertices();
+		int bits = 0;
+		for (int cell = 0; cell < numCells; ++cell) {
+			if ((cell & 3) == 0) {
+				bits = buffer.get() & 0xFF;
+			}
+			int passages = bits >>> 2 * (cell & 3);
+			if ((passages & 1) != 0) {
+				if (cell % numCols == numCols - 1) {
+					throw new IllegalArgumentException("Passage leaving the grid at cell " + cell);
+				}
+				grid.addEdge(cell, cell + 1);
+			}
+			if ((passages & 2) != 0) {
+				if (cell / numCols == numRows - 1) {
+					throw new IllegalArgumentException("Passage leaving the grid at cell " + cell);
+				}
+				grid.addEdge(cell, cell + numCols);
+			}
+		}
+	}
+}
\ No newline at end of file
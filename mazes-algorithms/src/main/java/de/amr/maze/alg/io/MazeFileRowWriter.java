@@ -0,0 +1,130 @@
+package de.amr.maze.alg.io;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import de.amr.maze.alg.core.RowSink;
+
+/**
+ * Row sink writing a maze with 4-neighborhood row by row to a binary maze file, see
+ * {@link MazeFileHeader} for the format. Only a small buffer is held in memory, so the maze may be
+ * larger than the available memory.
+ *
+ * @author Armin Reichert
+ */
+public class MazeFileRowWriter implements RowSink, Closeable {
+
+	private final MazeFileHeader header;
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private int nextRow;
+	private int bits;
+	private int bitCount;
+
+	/**
+	 * Creates the file and writes the header.
+	 * 
+	 * @param file
+	 *                  path of file to be created or overwritten
+	 * @param numCols
+	 *                  number of columns
+	 * @param numRows
+	 *                  number of rows
+	 * @param seed
+	 *                  seed that is used to create the maze, stored in the header
+	 * @throws IOException
+	 *                       if the file cannot be created
+	 */
+	public MazeFileRowWriter(Path file, int numCols, int numRows, long seed) throws IOException {
+		header = new MazeFileHeader(numCols, numRows, 4, seed);
+		channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+		buffer = ByteBuffer.allocateDirect(1 << 16);
+		header.write(buffer);
+	}
+
+	/**
+	 * @throws IllegalStateException
+	 *                                 if the rows are not passed in order or a passage leaves the grid
+	 * @throws UncheckedIOException
+	 *                                 if writing to the file fails
+	 */
+	@Override
+	public void accept(int row, BitSet east, BitSet south) {
+		int numCols = header.getNumCols();
+		if (row != nextRow) {
+			throw new IllegalStateException(String.format("Expected row %d but got row %d", nextRow, row));
+		}
+		if (east.length() >= numCols || (row == header.getNumRows() - 1 && !south.isEmpty())
+				|| south.length() > numCols) {
+			throw new IllegalStateException("Passage leaves grid in row " + row);
+		}
+		for (int col = 0; col < numCols; ++col) {
+			if (east.get(col)) {
+				bits |= 1 << bitCount;
+			}
+			if (south.get(col)) {
+				bits |= 2 << bitCount;
+			}
+			bitCount += 2;
+			if (bitCount == 8) {
+				put((byte) bits);
+				bits = 0;
+				bitCount = 0;
+			}
+		}
+		++nextRow;
+	}
+
+	private void put(byte b) {
+		if (!buffer.hasRemaining()) {
+			flush();
+		}
+		buffer.put(b);
+	}
+
+	private void flush() {
+		buffer.flip();
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Writes the remaining data and closes the file.
+	 * 
+	 * @throws IOException
+	 *                       if writing fails or not all rows have been written
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (bitCount > 0) {
+				put((byte) bits);
+				bitCount = 0;
+			}
+			flush();
+		} catch (UncheckedIOException e) {
+			channel.close();
+			throw e.getCause();
+		}
+		channel.close();
+		if (nextRow != header.getNumRows()) {
+			throw new IOException(String.format("Incomplete maze file: %d of %d rows written", nextRow,
+					header.getNumRows()));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package de.amr.maze.alg.io;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.PackedGridGraph;
+
+/**
+ * Writes mazes to binary maze files, see {@link MazeFileHeader} for the format.
+ *
+ * @author Armin Reichert
+ */
+public class MazeFileWriter {
+
+	/**
+	 * Writes the given maze to a memory-mapped file. Mazes stored in a {@link PackedGridGraph} are
+	 * copied word-wise.
+	 * 
+	 * @param file
+	 *               path of file to be created or overwritten
+	 * @param grid
+	 *               maze
+	 * @param seed
+	 *               seed that has been used to create the maze, stored in the header
+	 * @throws IOException
+	 *                                    if writing fails
+	 * @throws IllegalArgumentException
+	 *                                    if the maze contains diagonal passages
+	 */
+	public static void write(Path file, GridGraph2D<TraversalState, Integer> grid, long seed) throws IOException {
+		if (!(grid instanceof PackedGridGraph) && hasDiagonalPassages(grid)) {
+			// check before the file is opened, so an existing file is left untouched
+			throw new IllegalArgumentException("Diagonal passages cannot be stored in maze file");
+		}
+		MazeFileHeader header = new MazeFileHeader(grid.numCols(), grid.numRows(), grid.getTopology().dirCount(),
+				seed);
+		try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+			MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, header.getFileSize());
+			header.write(buffer);
+			if (grid instanceof PackedGridGraph) {
+				((PackedGridGraph) grid).exportPassages(buffer);
+			} else {
+				writePassages(grid, buffer);
+			}
+			buffer.force();
+		}
+	}
+
+	private static boolean hasDiagonalPassages(GridGraph2D<TraversalState, Integer> grid) {
+		if (grid.getTopology().dirCount() == 4) {
+			return false;
+		}
+		int numCols = grid.numCols(), numRows = grid.numRows(), numCells = grid.numVertices();
+		int numPassages = 0;
+		for (int cell = 0; cell < numCells; ++cell) {
+			if (cell % numCols < numCols - 1 && grid.adjacent(cell, cell + 1)) {
+				++numPassages;
+			}
+			if (cell / numCols < numRows - 1 && grid.adjacent(cell, cell + numCols)) {
+				++numPassages;
+			}
+		}
+		return numPassages != grid.numEdges();
+	}
+
+	private static void writePassages(GridGraph2D<TraversalState, Integer> grid, MappedByteBuffer buffer) {
+		int numCols = grid.numCols(), numRows = grid.numRows(), numCells = grid.numVertices();
+		int bits = 0;
+		for (int cell = 0; cell < numCells; ++cell) {
+			int col = cell % numCols, row = cell / numCols;
+			int passages = 0;
+			if (col < numCols - 1 && grid.adjacent(cell, cell + 1)) {
+				passages |= 1;
+			}
+			if (row < numRows - 1 && grid.adjacent(cell, cell + numCols)) {
+				passages |= 2;
+			}
+			bits |= passages << 2 * (cell & 3);
+			if ((cell & 3) == 3 || cell == numCells - 1) {
+				buffer.put((byte) bits);
+				bits = 0;
+			}
+		}
+	}
+}
\ No newline at end of file
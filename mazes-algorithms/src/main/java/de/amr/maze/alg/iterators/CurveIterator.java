@@ -0,0 +1,217 @@
+package de.amr.maze.alg.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterates the cells of a grid in the order of a space-filling curve (Hilbert, Moore, Peano).
+ * <p>
+ * The curve covers the smallest square of side length {@code base^depth} containing the grid, the
+ * grid is placed at the top-left corner of this square. The cells are computed by recursive
+ * subdivision of the square, so only {@code O(depth)} memory is used. Sub-squares outside of the
+ * grid are skipped as a whole, so the running time is about proportional to the number of grid
+ * cells, even for long and narrow grids.
+ * <p>
+ * Each curve is defined by a pattern telling in which order the sub-squares of a square are
+ * visited and how the curve inside each sub-square is transformed (swapped and/or mirrored).
+ *
+ * @author Armin Reichert
+ */
+public class CurveIterator implements PrimitiveIterator.OfInt {
+
+	// transformation bits: swap x and y, then mirror x, then mirror y
+	private static final int SWAP = 1, MIRROR_X = 2, MIRROR_Y = 4;
+
+	// composition table: COMPOSE[s][t] = s after t
+	private static final int[][] COMPOSE = new int[8][8];
+
+	static {
+		for (int s = 0; s < 8; ++s) {
+			for (int t = 0; t < 8; ++t) {
+				for (int u = 0; u < 8; ++u) {
+					if (sameTransformation(u, s, t)) {
+						COMPOSE[s][t] = u;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean sameTransformation(int u, int s, int t) {
+		for (int x = 0; x < 2; ++x) {
+			for (int y = 0; y < 2; ++y) {
+				int st = transform(s, transform(t, x << 16 | y, 2), 2);
+				if (transform(u, x << 16 | y, 2) != st) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	// transforms the position (x << 16 | y) inside a k x k square
+	private static int transform(int t, int pos, int k) {
+		int x = pos >>> 16, y = pos & 0xFFFF;
+		if ((t & SWAP) != 0) {
+			int tmp = x;
+			x = y;
+			y = tmp;
+		}
+		if ((t & MIRROR_X) != 0) {
+			x = k - 1 - x;
+		}
+		if ((t & MIRROR_Y) != 0) {
+			y = k - 1 - y;
+		}
+		return x << 16 | y;
+	}
+
+	private static int[] positions(int... xy) {
+		int[] pos = new int[xy.length / 2];
+		for (int i = 0; i < pos.length; ++i) {
+			pos[i] = xy[2 * i] << 16 | xy[2 * i + 1];
+		}
+		return pos;
+	}
+
+	// Hilbert: enters at top-left, leaves at top-right
+	private static final int[] HILBERT_POS = positions(0, 0, 0, 1, 1, 1, 1, 0);
+	private static final int[] HILBERT_TRANS = { SWAP, 0, 0, SWAP | MIRROR_X | MIRROR_Y };
+
+	// Moore: four Hilbert curves forming a loop, starts and ends at the middle of the bottom side
+	private static final int[] MOORE_POS = positions(1, 1, 1, 0, 0, 0, 0, 1);
+	private static final int[] MOORE_TRANS = { SWAP | MIRROR_Y, SWAP | MIRROR_Y, SWAP | MIRROR_X, SWAP | MIRROR_X };
+
+	// Peano: enters at bottom-left, leaves at top-right
+	private static final int[] PEANO_POS = positions(0, 2, 0, 1, 0, 0, 1, 0, 1, 1, 1, 2, 2, 2, 2, 1, 2, 0);
+	private static final int[] PEANO_TRANS = { 0, MIRROR_X, 0, MIRROR_Y, MIRROR_X | MIRROR_Y, MIRROR_Y, 0, MIRROR_X,
+			0 };
+
+	/**
+	 * @param numCols
+	 *                  number of grid columns
+	 * @param numRows
+	 *                  number of grid rows
+	 * @return iterator over the grid cells in Hilbert curve order, starting at the top-left cell
+	 */
+	public static CurveIterator hilbert(int numCols, int numRows) {
+		return new CurveIterator(numCols, numRows, 2, HILBERT_POS, HILBERT_TRANS, HILBERT_POS, HILBERT_TRANS);
+	}
+
+	/**
+	 * @param numCols
+	 *                  number of grid columns
+	 * @param numRows
+	 *                  number of grid rows
+	 * @return iterator over the grid cells in Moore curve order
+	 */
+	public static CurveIterator moore(int numCols, int numRows) {
+		return new CurveIterator(numCols, numRows, 2, MOORE_POS, MOORE_TRANS, HILBERT_POS, HILBERT_TRANS);
+	}
+
+	/**
+	 * @param numCols
+	 *                  number of grid columns
+	 * @param numRows
+	 *                  number of grid rows
+	 * @return iterator over the grid cells in Peano curve order
+	 */
+	public static CurveIterator peano(int numCols, int numRows) {
+		return new CurveIterator(numCols, numRows, 3, PEANO_POS, PEANO_TRANS, PEANO_POS, PEANO_TRANS);
+	}
+
+	private final int numCols;
+	private final int numRows;
+	private final int base;
+	private final int[] rootPos;
+	private final int[] rootTrans;
+	private final int[] pos;
+	private final int[] trans;
+
+	// stack of squares being subdivided
+	private final int[] squareCol;
+	private final int[] squareRow;
+	private final long[] squareSize;
+	private final int[] squareTrans;
+	private final int[] squareChild;
+	private int top;
+	private int nextCell;
+
+	private CurveIterator(int numCols, int numRows, int base, int[] rootPos, int[] rootTrans, int[] pos,
+			int[] trans) {
+		if (numCols <= 0 || numRows <= 0) {
+			throw new IllegalArgumentException(String.format("Illegal grid size: %d x %d", numCols, numRows));
+		}
+		this.numCols = numCols;
+		this.numRows = numRows;
+		this.base = base;
+		this.rootPos = rootPos;
+		this.rootTrans = rootTrans;
+		this.pos = pos;
+		this.trans = trans;
+		int depth = 0;
+		long size = 1;
+		while (size < Math.max(numCols, numRows)) {
+			size *= base;
+			++depth;
+		}
+		squareCol = new int[depth + 1];
+		squareRow = new int[depth + 1];
+		squareSize = new long[depth + 1];
+		squareTrans = new int[depth + 1];
+		squareChild = new int[depth + 1];
+		if (depth == 0) {
+			nextCell = 0;
+			top = -1;
+		} else {
+			squareSize[0] = size;
+			top = 0;
+			nextCell = findNextCell();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return nextCell != -1;
+	}
+
+	@Override
+	public int nextInt() {
+		if (nextCell == -1) {
+			throw new NoSuchElementException();
+		}
+		int cell = nextCell;
+		nextCell = findNextCell();
+		return cell;
+	}
+
+	private int findNextCell() {
+		while (top >= 0) {
+			int[] p = top == 0 ? rootPos : pos, t = top == 0 ? rootTrans : trans;
+			int child = squareChild[top];
+			if (child == p.length) {
+				--top;
+				continue;
+			}
+			squareChild[top] = child + 1;
+			int childPos = transform(squareTrans[top], p[child], base);
+			long childSize = squareSize[top] / base;
+			long col = squareCol[top] + (childPos >>> 16) * childSize;
+			long row = squareRow[top] + (childPos & 0xFFFF) * childSize;
+			if (col >= numCols || row >= numRows) {
+				continue; // square outside of grid
+			}
+			if (childSize == 1) {
+				return (int) row * numCols + (int) col;
+			}
+			++top;
+			squareCol[top] = (int) col;
+			squareRow[top] = (int) row;
+			squareSize[top] = childSize;
+			squareTrans[top] = COMPOSE[squareTrans[top - 1]][t[child]];
+			squareChild[top] = 0;
+		}
+		return -1;
+	}
+}
\ No newline at end of file
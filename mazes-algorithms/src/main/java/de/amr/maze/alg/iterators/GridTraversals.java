@@ -0,0 +1,517 @@
+package de.amr.maze.alg.iterators;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Primitive iterators over the cells of a grid in geometric orders (sweeps, spirals, circles,
+ * rectangles, crosses) and combinators for these iterators.
+ * <p>
+ * Cells are given by their index {@code row * numCols + col}. The shapes may extend beyond the
+ * grid, cells outside of the grid are skipped. Each traversal is composed of straight line segments
+ * that are clipped against the grid as a whole, so the iterators are lazy, use constant memory (the
+ * recursive crosses logarithmic memory) and never box cell indices.
+ * <p>
+ * Circles are rings of cells having the same Manhattan distance from the center.
+ *
+ * @author Armin Reichert
+ */
+public class GridTraversals {
+
+	private GridTraversals() {
+	}
+
+	/**
+	 * @param cells
+	 *                cell iterator
+	 * @return sequential stream of the cells
+	 */
+	public static IntStream stream(PrimitiveIterator.OfInt cells) {
+		return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(cells, Spliterator.ORDERED), false);
+	}
+
+	/**
+	 * @param iterators
+	 *                    cell iterators
+	 * @return iterator over the cells of the given iterators, one iterator after the other
+	 */
+	public static PrimitiveIterator.OfInt sequence(PrimitiveIterator.OfInt... iterators) {
+		return new Sequence(iterators);
+	}
+
+	/**
+	 * @param iterators
+	 *                    cell iterators
+	 * @return iterator taking the cells from the given iterators in turn until all are exhausted
+	 */
+	public static PrimitiveIterator.OfInt interleave(PrimitiveIterator.OfInt... iterators) {
+		return new Interleave(iterators);
+	}
+
+	/**
+	 * @return columns from left to right, each column from top to bottom
+	 */
+	public static PrimitiveIterator.OfInt leftToRightSweep(int numCols, int numRows) {
+		return new Columns(numCols, numRows, k -> k, false);
+	}
+
+	/**
+	 * @return columns from right to left, each column from bottom to top
+	 */
+	public static PrimitiveIterator.OfInt rightToLeftSweep(int numCols, int numRows) {
+		return new Columns(numCols, numRows, k -> numCols - 1 - k, true);
+	}
+
+	/**
+	 * @return columns alternately from the left and the right border towards the middle, each column
+	 *         from top to bottom
+	 */
+	public static PrimitiveIterator.OfInt collapsingWalls(int numCols, int numRows) {
+		return new Columns(numCols, numRows, k -> k % 2 == 0 ? k / 2 : numCols - 1 - k / 2, false);
+	}
+
+	/**
+	 * @return square spiral starting at the given cell, turning clockwise (right, down, left, up)
+	 */
+	public static PrimitiveIterator.OfInt spiral(int numCols, int numRows, int col, int row) {
+		return new Spiral(numCols, numRows, col, row);
+	}
+
+	/**
+	 * Iterates the circles of radius {@code fromRadius} to {@code toRadius} (inclusive) around the
+	 * given center. If {@code fromRadius > toRadius}, the circles collapse towards the center. Each
+	 * circle starts at its top cell and runs clockwise.
+	 *
+	 * @return circles around the given center
+	 */
+	public static PrimitiveIterator.OfInt circles(int numCols, int numRows, int centerCol, int centerRow,
+			int fromRadius, int toRadius) {
+		return new Circles(numCols, numRows, centerCol, centerRow, fromRadius, toRadius);
+	}
+
+	/**
+	 * @return smallest radius of a circle around the given center such that the circles up to this
+	 *         radius cover the grid
+	 */
+	public static int coveringRadius(int numCols, int numRows, int centerCol, int centerRow) {
+		return Math.max(centerCol, numCols - 1 - centerCol) + Math.max(centerRow, numRows - 1 - centerRow);
+	}
+
+	/**
+	 * @return border of the given rectangle, clockwise starting at its top-left cell
+	 */
+	public static PrimitiveIterator.OfInt rectangle(int numCols, int numRows, int col, int row, int width,
+			int height) {
+		return new Rectangles(numCols, numRows, col, row, width, height, 0, 0, 0);
+	}
+
+	/**
+	 * Iterates the border of the given rectangle, then the borders of the rectangles expanded
+	 * {@code numExpansions} times to the right and down by the given amounts. Cells already on the
+	 * previous border are skipped, cells strictly inside of two borders are not visited.
+	 *
+	 * @return borders of an expanding rectangle
+	 */
+	public static PrimitiveIterator.OfInt expandingRectangle(int numCols, int numRows, int col, int row, int width,
+			int height, int expandWidth, int expandHeight, int numExpansions) {
+		return new Rectangles(numCols, numRows, col, row, width, height, expandWidth, expandHeight, numExpansions);
+	}
+
+	/**
+	 * @return borders of the nested rectangles from the grid border towards the middle
+	 */
+	public static PrimitiveIterator.OfInt collapsingRectangles(int numCols, int numRows) {
+		return new Rectangles(numCols, numRows, 0, 0, numCols, numRows, -2, -2, (Math.min(numCols, numRows) - 1) / 2);
+	}
+
+	/**
+	 * Iterates the middle row and middle column of the grid, then recursively the crosses of the four
+	 * parts (top-left, top-right, bottom-left, bottom-right) until all cells are visited.
+	 *
+	 * @return recursive crosses
+	 */
+	public static PrimitiveIterator.OfInt recursiveCrosses(int numCols, int numRows) {
+		return new Crosses(numCols, numRows);
+	}
+
+	/**
+	 * Iterates a sequence of straight line segments in horizontal, vertical or diagonal direction.
+	 * Subclasses add the segments part by part.
+	 */
+	private abstract static class SegmentIterator implements PrimitiveIterator.OfInt {
+
+		final int numCols;
+		final int numRows;
+
+		// pending segments: start column, start row, column delta, row delta, length
+		private int[] segments = new int[5 * 4];
+		private int numSegments;
+		private int nextSegment;
+
+		// current segment, clipped to the grid
+		private int col;
+		private int row;
+		private int dCol;
+		private int dRow;
+		private int remaining;
+
+		SegmentIterator(int numCols, int numRows) {
+			if (numCols <= 0 || numRows <= 0) {
+				throw new IllegalArgumentException(String.format("Illegal grid size: %d x %d", numCols, numRows));
+			}
+			this.numCols = numCols;
+			this.numRows = numRows;
+		}
+
+		/**
+		 * Adds the segments of the next part of the traversal.
+		 *
+		 * @return {@code false} if the traversal is complete
+		 */
+		abstract boolean addSegments();
+
+		final void addSegment(int col, int row, int dCol, int dRow, int length) {
+			if (length <= 0) {
+				return;
+			}
+			if (5 * numSegments == segments.length) {
+				segments = Arrays.copyOf(segments, 2 * segments.length);
+			}
+			int i = 5 * numSegments++;
+			segments[i] = col;
+			segments[i + 1] = row;
+			segments[i + 2] = dCol;
+			segments[i + 3] = dRow;
+			segments[i + 4] = length;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (remaining == 0) {
+				if (nextSegment == numSegments) {
+					nextSegment = numSegments = 0;
+					if (!addSegments()) {
+						return false;
+					}
+				} else {
+					startSegment(5 * nextSegment++);
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int cell = row * numCols + col;
+			col += dCol;
+			row += dRow;
+			--remaining;
+			return cell;
+		}
+
+		private void startSegment(int i) {
+			long c = segments[i], r = segments[i + 1];
+			dCol = segments[i + 2];
+			dRow = segments[i + 3];
+			// range [from, to) of segment positions inside the grid
+			long from = Math.max(0, Math.max(first(c, dCol, numCols), first(r, dRow, numRows)));
+			long to = Math.min(segments[i + 4], Math.min(last(c, dCol, numCols), last(r, dRow, numRows)) + 1);
+			if (from < to) {
+				col = (int) (c + from * dCol);
+				row = (int) (r + from * dRow);
+				remaining = (int) (to - from);
+			}
+		}
+
+		// first position t such that 0 <= x + t * d < n
+		private static long first(long x, int d, int n) {
+			if (d == 0) {
+				return 0 <= x && x < n ? 0 : Long.MAX_VALUE;
+			}
+			return d > 0 ? -x : x - n + 1;
+		}
+
+		// last position t such that 0 <= x + t * d < n
+		private static long last(long x, int d, int n) {
+			if (d == 0) {
+				return 0 <= x && x < n ? Long.MAX_VALUE - 1 : -1;
+			}
+			return d > 0 ? n - 1 - x : x;
+		}
+	}
+
+	private static class Columns extends SegmentIterator {
+
+		private final IntUnaryOperator columnOrder;
+		private final boolean upwards;
+		private int k;
+
+		Columns(int numCols, int numRows, IntUnaryOperator columnOrder, boolean upwards) {
+			super(numCols, numRows);
+			this.columnOrder = columnOrder;
+			this.upwards = upwards;
+		}
+
+		@Override
+		boolean addSegments() {
+			if (k == numCols) {
+				return false;
+			}
+			int col = columnOrder.applyAsInt(k++);
+			if (upwards) {
+				addSegment(col, numRows - 1, 0, -1, numRows);
+			} else {
+				addSegment(col, 0, 0, 1, numRows);
+			}
+			return true;
+		}
+	}
+
+	private static class Spiral extends SegmentIterator {
+
+		private static final int[] DX = { 1, 0, -1, 0 }, DY = { 0, 1, 0, -1 };
+
+		private int col, row, leg;
+		// number of the last legs completely outside of the grid
+		private int legsOutside;
+
+		Spiral(int numCols, int numRows, int col, int row) {
+			super(numCols, numRows);
+			this.col = col;
+			this.row = row;
+			leg = -1;
+		}
+
+		@Override
+		boolean addSegments() {
+			if (leg == -1) {
+				addSegment(col, row, 0, 0, 1);
+				leg = 0;
+				return true;
+			}
+			// each leg spans the columns resp. rows of all previous legs, so once the last four legs are
+			// outside of the grid, all following legs are too
+			if (legsOutside == 4) {
+				return false;
+			}
+			int dir = leg % 4, length = leg / 2 + 1;
+			addSegment(col + DX[dir], row + DY[dir], DX[dir], DY[dir], length);
+			col += length * DX[dir];
+			row += length * DY[dir];
+			boolean outside = DX[dir] != 0 ? row < 0 || row >= numRows : col < 0 || col >= numCols;
+			legsOutside = outside ? legsOutside + 1 : 0;
+			++leg;
+			return true;
+		}
+	}
+
+	private static class Circles extends SegmentIterator {
+
+		private final int centerCol, centerRow, toRadius, step;
+		private int radius;
+
+		Circles(int numCols, int numRows, int centerCol, int centerRow, int fromRadius, int toRadius) {
+			super(numCols, numRows);
+			if (fromRadius < 0 || toRadius < 0) {
+				throw new IllegalArgumentException("Radius must not be negative");
+			}
+			this.centerCol = centerCol;
+			this.centerRow = centerRow;
+			this.toRadius = toRadius;
+			this.step = fromRadius <= toRadius ? 1 : -1;
+			this.radius = fromRadius;
+		}
+
+		@Override
+		boolean addSegments() {
+			if (radius == toRadius + step) {
+				return false;
+			}
+			int r = radius;
+			if (r == 0) {
+				addSegment(centerCol, centerRow, 0, 0, 1);
+			} else {
+				addSegment(centerCol, centerRow - r, 1, 1, r);
+				addSegment(centerCol + r, centerRow, -1, 1, r);
+				addSegment(centerCol, centerRow + r, -1, -1, r);
+				addSegment(centerCol - r, centerRow, 1, -1, r);
+			}
+			radius += step;
+			return true;
+		}
+	}
+
+	private static class Rectangles extends SegmentIterator {
+
+		private final int dCol, dRow, dWidth, dHeight;
+		private int col, row, width, height;
+		private int numRectangles;
+		// previous rectangle if expanding
+		private int prevWidth, prevHeight;
+
+		Rectangles(int numCols, int numRows, int col, int row, int width, int height, int dWidth, int dHeight,
+				int numExpansions) {
+			super(numCols, numRows);
+			this.col = col;
+			this.row = row;
+			this.width = width;
+			this.height = height;
+			this.dWidth = dWidth;
+			this.dHeight = dHeight;
+			// shrinking rectangles stay centered, expanding rectangles keep their top-left cell
+			this.dCol = dWidth < 0 ? -dWidth / 2 : 0;
+			this.dRow = dHeight < 0 ? -dHeight / 2 : 0;
+			this.numRectangles = numExpansions + 1;
+		}
+
+		@Override
+		boolean addSegments() {
+			if (numRectangles == 0 || width <= 0 || height <= 0) {
+				return false;
+			}
+			// cells in the top-left prevWidth x prevHeight area are on the previous border
+			int skipTop = prevHeight > 0 ? Math.min(prevWidth, width) : 0;
+			addSegment(col + skipTop, row, 1, 0, width - skipTop);
+			if (height > 1) {
+				int skipRight = width <= prevWidth ? Math.max(1, prevHeight) : 1;
+				addSegment(col + width - 1, row + skipRight, 0, 1, height - skipRight);
+			}
+			if (height > 1 && width > 1) {
+				int skipBottom = height <= prevHeight ? prevWidth : 0;
+				addSegment(col + width - 2, row + height - 1, -1, 0, width - 1 - skipBottom);
+			}
+			if (height > 2 && width > 1) {
+				int skipLeft = prevWidth > 0 ? Math.max(0, prevHeight - 1) : 0;
+				addSegment(col, row + height - 2, 0, -1, height - 2 - skipLeft);
+			}
+			if (dCol == 0 && dRow == 0) {
+				prevWidth = width;
+				prevHeight = height;
+			}
+			col += dCol;
+			row += dRow;
+			width += dWidth;
+			height += dHeight;
+			--numRectangles;
+			return true;
+		}
+	}
+
+	private static class Crosses extends SegmentIterator {
+
+		// stack of parts: column, row, width, height
+		private int[] parts = new int[4 * 16];
+		private int numParts;
+
+		Crosses(int numCols, int numRows) {
+			super(numCols, numRows);
+			push(0, 0, numCols, numRows);
+		}
+
+		private void push(int col, int row, int width, int height) {
+			if (width > 0 && height > 0) {
+				if (4 * numParts == parts.length) {
+					parts = Arrays.copyOf(parts, 2 * parts.length);
+				}
+				int i = 4 * numParts++;
+				parts[i] = col;
+				parts[i + 1] = row;
+				parts[i + 2] = width;
+				parts[i + 3] = height;
+			}
+		}
+
+		@Override
+		boolean addSegments() {
+			if (numParts == 0) {
+				return false;
+			}
+			int i = 4 * --numParts;
+			int col = parts[i], row = parts[i + 1], width = parts[i + 2], height = parts[i + 3];
+			int midCol = col + width / 2, midRow = row + height / 2;
+			addSegment(col, midRow, 1, 0, width);
+			addSegment(midCol, row, 0, 1, midRow - row);
+			addSegment(midCol, midRow + 1, 0, 1, row + height - midRow - 1);
+			// pushed in reverse order such that the top-left part comes next
+			push(midCol + 1, midRow + 1, col + width - midCol - 1, row + height - midRow - 1);
+			push(col, midRow + 1, midCol - col, row + height - midRow - 1);
+			push(midCol + 1, row, col + width - midCol - 1, midRow - row);
+			push(col, row, midCol - col, midRow - row);
+			return true;
+		}
+	}
+
+	private static class Sequence implements PrimitiveIterator.OfInt {
+
+		private final PrimitiveIterator.OfInt[] iterators;
+		private int current;
+
+		Sequence(PrimitiveIterator.OfInt[] iterators) {
+			this.iterators = iterators.clone();
+			Arrays.stream(this.iterators).forEach(Objects::requireNonNull);
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (current < iterators.length && !iterators[current].hasNext()) {
+				++current;
+			}
+			return current < iterators.length;
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return iterators[current].nextInt();
+		}
+	}
+
+	private static class Interleave implements PrimitiveIterator.OfInt {
+
+		private final PrimitiveIterator.OfInt[] iterators;
+		private int numActive;
+		private int current;
+
+		Interleave(PrimitiveIterator.OfInt[] iterators) {
+			this.iterators = iterators.clone();
+			Arrays.stream(this.iterators).forEach(Objects::requireNonNull);
+			numActive = this.iterators.length;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (numActive > 0) {
+				if (current == numActive) {
+					current = 0;
+				}
+				if (iterators[current].hasNext()) {
+					return true;
+				}
+				// remove exhausted iterator, keeping the order of the others
+				System.arraycopy(iterators, current + 1, iterators, current, numActive - current - 1);
+				--numActive;
+			}
+			return false;
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return iterators[current++].nextInt();
+		}
+	}
+}
\ No newline at end of file
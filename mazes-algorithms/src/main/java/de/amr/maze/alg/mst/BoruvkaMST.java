@@ -1,20 +1,21 @@
 package de.amr.maze.alg.mst;
 
-import static de.amr.datastruct.StreamUtils.permute;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Arrays;
 
-import de.amr.datastruct.Partition;
-import de.amr.graph.core.api.Edge;
 import de.amr.graph.core.api.TraversalState;
-import de.amr.graph.core.api.UndirectedEdge;
 import de.amr.graph.grid.api.GridGraph2D;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
+import de.amr.maze.alg.core.UnionFind;
 
 /**
  * Maze generator derived from Boruvka's minimum spanning tree algorithm.
+ * <p>
+ * In each round, the trees of the forest are visited in random order. For each tree, the cells and
+ * their neighbors are searched in random order for an edge to another tree, which is added to the
+ * maze.
  * 
  * @author Armin Reichert
  * 
@@ -23,7 +24,9 @@ import de.amr.maze.alg.core.MazeGenerator;
  */
 public class BoruvkaMST extends MazeGenerator {
 
-	private Partition<Integer> forest;
+	private UnionFind forest;
+	private Neighborhood neighborhood;
+	private int[] dirs;
 
 	public BoruvkaMST(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
@@ -31,31 +34,62 @@ public class BoruvkaMST extends MazeGenerator {
 
 	@Override
 	public void createMaze(int x, int y) {
-		forest = new Partition<>();
-		grid.vertices().forEach(forest::makeSet);
-		while (forest.size() > 1) {
-			permute(forest.sets()).map(this::findCombiningEdge).filter(Optional::isPresent).map(Optional::get)
-					.forEach(this::combineTrees);
+		int numCells = grid.numVertices();
+		forest = new UnionFind(numCells);
+		neighborhood = new Neighborhood(grid);
+		dirs = new int[neighborhood.dirCount()];
+		Arrays.setAll(dirs, i -> i);
+		int[] treeIndex = new int[numCells];
+		int[] treeStart = new int[numCells + 1];
+		int[] treeCells = new int[numCells];
+		int[] trees = new int[numCells];
+		while (forest.numSets() > 1) {
+			// group the cells by tree, trees are numbered in the order of their first cell
+			Arrays.fill(treeIndex, -1);
+			Arrays.fill(treeStart, 0);
+			int numTrees = 0;
+			for (int cell = 0; cell < numCells; ++cell) {
+				int root = forest.find(cell);
+				if (treeIndex[root] == -1) {
+					treeIndex[root] = numTrees++;
+				}
+				++treeStart[treeIndex[root] + 1];
+			}
+			for (int t = 0; t < numTrees; ++t) {
+				treeStart[t + 1] += treeStart[t];
+			}
+			int[] next = Arrays.copyOf(treeStart, numTrees);
+			for (int cell = 0; cell < numCells; ++cell) {
+				treeCells[next[treeIndex[forest.find(cell)]]++] = cell;
+			}
+			for (int t = 0; t < numTrees; ++t) {
+				trees[t] = t;
+			}
+			rnd.shuffle(trees, numTrees);
+			for (int i = 0; i < numTrees; ++i) {
+				int t = trees[i];
+				combineWithOtherTree(treeCells, treeStart[t], treeStart[t + 1]);
+			}
 		}
+		forest = null;
 	}
 
-	private void combineTrees(Edge edge) {
-		int u = edge.either(), v = edge.other();
-		if (forest.find(u) != forest.find(v)) {
-			grid.addEdge(u, v);
-			grid.set(u, COMPLETED);
-			grid.set(v, COMPLETED);
-			forest.union(u, v);
+	private void combineWithOtherTree(int[] cells, int from, int to) {
+		for (int i = from; i < to; ++i) {
+			// select the next cell in random order (lazy Fisher-Yates)
+			int j = i + rnd.nextInt(to - i), cell = cells[j];
+			cells[j] = cells[i];
+			cells[i] = cell;
+			rnd.shuffle(dirs);
+			for (int dir : dirs) {
+				int neighbor = neighborhood.neighbor(cell, dir);
+				if (neighbor != Neighborhood.NO_CELL && forest.union(cell, neighbor)) {
+					addEdge(cell, neighbor);
+					setVisualState(cell, COMPLETED);
+					setVisualState(neighbor, COMPLETED);
+					return;
+				}
+			}
 		}
 	}
-
-	private Optional<Edge> findCombiningEdge(Partition<Integer>.Set tree) {
-		return permute(tree.elements()).flatMap(this::inventCombiningEdges).findFirst();
-	}
-
-	private Stream<Edge> inventCombiningEdges(int cell) {
-		// invent edges combining different subtrees
-		return permute(grid.neighbors(cell).filter(neighbor -> forest.find(cell) != forest.find(neighbor))
-				.map(neighbor -> new UndirectedEdge(cell, neighbor)));
-	}
 }
\ No newline at end of file
@@ -1,17 +1,18 @@
 package de.amr.maze.alg.mst;
 
-import static de.amr.datastruct.StreamUtils.permute;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
-import static de.amr.graph.core.api.TraversalState.UNVISITED;
-import static de.amr.graph.grid.impl.GridFactory.fullGrid;
 
-import de.amr.datastruct.Partition;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.GridEdgeIds;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.UnionFind;
 
 /**
  * Maze generator derived from Kruskal's minimum spanning-tree algorithm.
+ * <p>
+ * The edges of the full grid are enumerated as integer IDs (see {@link GridEdgeIds}) and shuffled
+ * in place, so no second grid is created.
  * 
  * @author Armin Reichert
  * 
@@ -27,16 +28,19 @@ public class KruskalMST extends MazeGenerator {
 
 	@Override
 	public void createMaze(int x, int y) {
-		Partition<Integer> forest = new Partition<>();
-		//@formatter:off
-		permute( fullGrid(grid.numCols(), grid.numRows(), grid.getTopology(), UNVISITED, 0).edges() )
-			.filter(edge -> forest.union(edge.either(), edge.other()))
-			.forEach(edge -> {
-				int u = edge.either(), v = edge.other();
-				grid.addEdge(u, v);
-				grid.set(u, COMPLETED);
-				grid.set(v, COMPLETED);
-			});
-		//@formatter:on
+		GridEdgeIds edgeIds = new GridEdgeIds(grid);
+		int[] edges = edgeIds.edges();
+		rnd.shuffle(edges);
+		UnionFind forest = new UnionFind(grid.numVertices());
+		int treeEdges = 0;
+		for (int i = 0; i < edges.length && treeEdges < grid.numVertices() - 1; ++i) {
+			int u = edgeIds.either(edges[i]), v = edgeIds.other(edges[i]);
+			if (forest.union(u, v)) {
+				addEdge(u, v);
+				setVisualState(u, COMPLETED);
+				setVisualState(v, COMPLETED);
+				++treeEdges;
+			}
+		}
 	}
 }
\ No newline at end of file
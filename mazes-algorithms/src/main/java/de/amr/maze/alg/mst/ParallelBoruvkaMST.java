@@ -0,0 +1,134 @@
+package de.amr.maze.alg.mst;
+
+import static de.amr.graph.core.api.TraversalState.COMPLETED;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.ConcurrentUnionFind;
+import de.amr.maze.alg.core.GridEdgeIds;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.ParallelRange;
+import de.amr.maze.alg.core.SplitMix64;
+
+/**
+ * Maze generator derived from Boruvka's minimum spanning tree algorithm, with the rounds running in
+ * parallel.
+ * <p>
+ * Each edge of the full grid gets a random weight. In each round, all cells are scanned in parallel
+ * and each tree of the forest finds its cheapest edge to another tree. Then these edges are added
+ * in parallel using a lock-free union-find. Each round at least halves the number of trees.
+ * <p>
+ * The weight of an edge is a hash of the seed and the edge ID, with the edge ID in the lowest bits
+ * to break ties. As all weights are distinct, the graph has exactly one minimum spanning tree, and
+ * each round adds edges of this tree, whichever thread finds them first. So the maze is the one that
+ * Kruskal's algorithm would create for these weights, for any number of threads and any start cell.
+ *
+ * @author Armin Reichert
+ *
+ * @see <a href="http://iss.ices.utexas.edu/?p=projects/galois/benchmarks/mst">Boruvka's
+ *      Algorithm</a>
+ */
+public class ParallelBoruvkaMST extends MazeGenerator {
+
+	private static final long NONE = Long.MAX_VALUE;
+
+	private final ForkJoinPool pool;
+	private GridEdgeIds edgeIds;
+	private long seed;
+	private ConcurrentUnionFind forest;
+	private int[] root; // tree of each cell in the current round
+	private AtomicLongArray cheapest; // key of cheapest edge leaving each tree
+	private int[] chosen; // edge added by each tree in the current round or -1
+
+	public ParallelBoruvkaMST(GridGraph2D<TraversalState, Integer> grid) {
+		this(grid, ForkJoinPool.commonPool());
+	}
+
+	public ParallelBoruvkaMST(GridGraph2D<TraversalState, Integer> grid, ForkJoinPool pool) {
+		super(grid);
+		this.pool = Objects.requireNonNull(pool);
+	}
+
+	@Override
+	public void createMaze(int x, int y) {
+		int numCells = grid.numVertices();
+		edgeIds = new GridEdgeIds(grid);
+		seed = rnd.nextLong();
+		forest = new ConcurrentUnionFind(numCells);
+		root = new int[numCells];
+		cheapest = new AtomicLongArray(numCells);
+		chosen = new int[numCells];
+		while (forest.numSets() > 1) {
+			ParallelRange.forEach(pool, 0, numCells, cell -> {
+				root[cell] = forest.find(cell);
+				cheapest.set(cell, NONE);
+			});
+			ParallelRange.forEach(pool, 0, numCells, this::offerEdges);
+			ParallelRange.forEach(pool, 0, numCells, this::chooseEdge);
+			for (int tree = 0; tree < numCells; ++tree) {
+				if (chosen[tree] != -1) {
+					int u = edgeIds.either(chosen[tree]), v = edgeIds.other(chosen[tree]);
+					addEdge(u, v);
+					setVisualState(u, COMPLETED);
+					setVisualState(v, COMPLETED);
+				}
+			}
+		}
+		forest = null;
+		root = chosen = null;
+		cheapest = null;
+	}
+
+	/**
+	 * Offers the edges leaving the given cell in forward direction to the trees at both ends.
+	 */
+	private void offerEdges(int cell) {
+		for (int i = 0; i < edgeIds.edgesPerCell(); ++i) {
+			int edge = edgeIds.edge(cell, i);
+			if (edge != -1) {
+				int u = root[cell], v = root[edgeIds.other(edge)];
+				if (u != v) {
+					long key = key(edge);
+					offer(u, key);
+					offer(v, key);
+				}
+			}
+		}
+	}
+
+	private void offer(int tree, long key) {
+		long current = cheapest.get(tree);
+		while (key < current && !cheapest.compareAndSet(tree, current, key)) {
+			current = cheapest.get(tree);
+		}
+	}
+
+	/**
+	 * Adds the cheapest edge of the given tree to the forest. If two trees have the same cheapest
+	 * edge, only the tree with the smaller index adds it.
+	 */
+	private void chooseEdge(int tree) {
+		chosen[tree] = -1;
+		long key = cheapest.get(tree);
+		if (key == NONE) {
+			return;
+		}
+		int edge = (int) (key & Integer.MAX_VALUE);
+		int u = root[edgeIds.either(edge)], v = root[edgeIds.other(edge)];
+		int other = u == tree ? v : u;
+		if (other < tree && cheapest.get(other) == key) {
+			return;
+		}
+		forest.union(u, v);
+		chosen[tree] = edge;
+	}
+
+	// random weight in the upper bits, edge ID in the lower 31 bits makes all keys distinct
+	private long key(int edge) {
+		return (SplitMix64.hash(seed, edge) >>> 33) << 31 | edge;
+	}
+}
\ No newline at end of file
@@ -2,15 +2,21 @@ package de.amr.maze.alg.mst;
 
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 
-import java.util.PriorityQueue;
+import java.util.Arrays;
 
 import de.amr.graph.core.api.TraversalState;
-import de.amr.graph.core.api.WeightedEdge;
 import de.amr.graph.grid.api.GridGraph2D;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
 
 /**
  * Maze generator based on Prim's minimum spanning tree algorithm with random edge weights.
+ * <p>
+ * Uses the "eager" variant of Prim's algorithm: the cut is an indexed heap containing each
+ * frontier cell once, together with its cheapest edge into the tree. So the heap never holds more
+ * entries than the frontier has cells and no edge objects are created. The heap positions of the
+ * frontier cells are kept in a hash map, so the memory used by the cut is proportional to the size
+ * of the frontier and not to the size of the grid.
  * 
  * @author Armin Reichert
  * 
@@ -20,7 +26,8 @@ import de.amr.maze.alg.core.MazeGenerator;
  */
 public class PrimMST extends MazeGenerator {
 
-	private PriorityQueue<WeightedEdge<Integer>> cut;
+	private Neighborhood neighborhood;
+	private Cut cut;
 
 	public PrimMST(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
@@ -28,22 +35,206 @@ public class PrimMST extends MazeGenerator {
 
 	@Override
 	public void createMaze(int x, int y) {
-		cut = new PriorityQueue<>();
+		neighborhood = new Neighborhood(grid);
+		cut = new Cut();
 		expand(grid.cell(x, y));
 		while (!cut.isEmpty()) {
-			WeightedEdge<Integer> minEdge = cut.poll();
-			int u = minEdge.either(), v = minEdge.other();
-			if (isCellUnvisited(u) || isCellUnvisited(v)) {
-				grid.addEdge(u, v);
-				expand(isCellUnvisited(u) ? u : v);
-			}
+			int cell = cut.minCell(), treeCell = cut.minTreeCell();
+			cut.removeMin();
+			addEdge(treeCell, cell);
+			expand(cell);
 		}
+		cut = null;
 	}
 
 	private void expand(int cell) {
-		grid.set(cell, COMPLETED);
-		grid.neighbors(cell).filter(this::isCellUnvisited).forEach(neighbor -> {
-			cut.add(new WeightedEdge<>(cell, neighbor, rnd.nextInt()));
-		});
+		setState(cell, COMPLETED);
+		for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+			int neighbor = neighborhood.neighbor(cell, dir);
+			if (neighbor != Neighborhood.NO_CELL && isCellUnvisited(neighbor)) {
+				cut.offer(neighbor, cell, rnd.nextInt());
+			}
+		}
+	}
+
+	/**
+	 * Binary min-heap of the frontier cells, ordered by the weight of their cheapest edge into the
+	 * tree.
+	 */
+	private static class Cut {
+
+		private final CellIndexMap index = new CellIndexMap(); // heap index of each frontier cell
+		private int[] cells = new int[64];
+		private int[] treeCells = new int[64];
+		private int[] weights = new int[64];
+		private int size;
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		int minCell() {
+			return cells[0];
+		}
+
+		int minTreeCell() {
+			return treeCells[0];
+		}
+
+		/**
+		 * Adds the edge from the tree cell to the frontier cell if the frontier cell has no cheaper
+		 * edge yet.
+		 */
+		void offer(int cell, int treeCell, int weight) {
+			int i = index.get(cell);
+			if (i == -1) {
+				if (size == cells.length) {
+					cells = Arrays.copyOf(cells, 2 * size);
+					treeCells = Arrays.copyOf(treeCells, 2 * size);
+					weights = Arrays.copyOf(weights, 2 * size);
+				}
+				i = size++;
+			} else if (weight >= weights[i]) {
+				return;
+			}
+			siftUp(i, cell, treeCell, weight);
+		}
+
+		void removeMin() {
+			index.remove(cells[0]);
+			if (--size > 0) {
+				siftDown(0, cells[size], treeCells[size], weights[size]);
+			}
+		}
+
+		private void siftUp(int i, int cell, int treeCell, int weight) {
+			while (i > 0) {
+				int parent = (i - 1) / 2;
+				if (weights[parent] <= weight) {
+					break;
+				}
+				move(parent, i);
+				i = parent;
+			}
+			put(i, cell, treeCell, weight);
+		}
+
+		private void siftDown(int i, int cell, int treeCell, int weight) {
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && weights[child + 1] < weights[child]) {
+					++child;
+				}
+				if (weight <= weights[child]) {
+					break;
+				}
+				move(child, i);
+				i = child;
+			}
+			put(i, cell, treeCell, weight);
+		}
+
+		private void move(int from, int to) {
+			put(to, cells[from], treeCells[from], weights[from]);
+		}
+
+		private void put(int i, int cell, int treeCell, int weight) {
+			cells[i] = cell;
+			treeCells[i] = treeCell;
+			weights[i] = weight;
+			index.put(cell, i);
+		}
+	}
+
+	/**
+	 * Open-addressing hash map from cells to heap indices, using linear probing. The table grows when
+	 * it is half full.
+	 */
+	private static class CellIndexMap {
+
+		private static final int NO_KEY = -1;
+
+		private int[] keys = new int[128];
+		private int[] values = new int[128];
+		private int shift = 32 - 7; // 32 - log2(table size)
+		private int size;
+
+		CellIndexMap() {
+			Arrays.fill(keys, NO_KEY);
+		}
+
+		// Fibonacci hashing, the upper bits of the product give the slot
+		private int slot(int key) {
+			return key * 0x9E37_79B9 >>> shift;
+		}
+
+		/**
+		 * @return the value stored for the key or -1
+		 */
+		int get(int key) {
+			for (int i = slot(key);; i = i + 1 & keys.length - 1) {
+				if (keys[i] == key) {
+					return values[i];
+				}
+				if (keys[i] == NO_KEY) {
+					return -1;
+				}
+			}
+		}
+
+		void put(int key, int value) {
+			int i = slot(key);
+			while (keys[i] != NO_KEY && keys[i] != key) {
+				i = i + 1 & keys.length - 1;
+			}
+			if (keys[i] == NO_KEY) {
+				if (2 * (size + 1) > keys.length) {
+					grow();
+					put(key, value);
+					return;
+				}
+				keys[i] = key;
+				++size;
+			}
+			values[i] = value;
+		}
+
+		void remove(int key) {
+			int i = slot(key);
+			while (keys[i] != key) {
+				if (keys[i] == NO_KEY) {
+					return;
+				}
+				i = i + 1 & keys.length - 1;
+			}
+			// move following entries of the probe sequence into the gap
+			for (int j = i + 1 & keys.length - 1; keys[j] != NO_KEY; j = j + 1 & keys.length - 1) {
+				int home = slot(keys[j]);
+				if ((j - home & keys.length - 1) >= (j - i & keys.length - 1)) {
+					keys[i] = keys[j];
+					values[i] = values[j];
+					i = j;
+				}
+			}
+			keys[i] = NO_KEY;
+			--size;
+		}
+
+		private void grow() {
+			int[] oldKeys = keys, oldValues = values;
+			keys = new int[2 * oldKeys.length];
+			values = new int[2 * oldKeys.length];
+			Arrays.fill(keys, NO_KEY);
+			--shift;
+			size = 0;
+			for (int i = 0; i < oldKeys.length; ++i) {
+				if (oldKeys[i] != NO_KEY) {
+					put(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
 	}
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package de.amr.maze.alg.mst;
 
-import static de.amr.datastruct.StreamUtils.permute;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 
 import de.amr.graph.core.api.Edge;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.ConnectivitySearch;
 import de.amr.maze.alg.core.MazeGenerator;
 
 /**
@@ -18,25 +18,40 @@ import de.amr.maze.alg.core.MazeGenerator;
  */
 public abstract class ReverseDeleteMST extends MazeGenerator {
 
+	private ConnectivitySearch search;
+
 	public ReverseDeleteMST(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
-		grid.fill();
-		grid.setDefaultVertexLabel(cell -> COMPLETED);
 	}
 
 	@Override
 	public void createMaze(int x, int y) {
+		search = null;
+		grid.fill();
+		grid.setDefaultVertexLabel(cell -> COMPLETED);
 		Iterable<Edge> edges = permute(grid.edges())::iterator;
 		for (Edge edge : edges) {
 			if (grid.numEdges() == grid.numVertices() - 1) {
 				break;
 			}
 			int u = edge.either(), v = edge.other();
-			grid.removeEdge(u, v);
+			removeEdge(u, v);
+			probe.connectivityQuery();
 			if (!connected(u, v)) {
-				grid.addEdge(u, v);
+				addEdge(u, v);
 			}
 		}
+		search = null;
+	}
+
+	/**
+	 * @return search context for the connectivity tests, reused for all tests of one maze
+	 */
+	protected ConnectivitySearch search() {
+		if (search == null) {
+			search = new ConnectivitySearch(grid);
+		}
+		return search;
 	}
 
 	/**
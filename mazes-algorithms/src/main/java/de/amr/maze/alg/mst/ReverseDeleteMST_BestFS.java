@@ -2,8 +2,6 @@ package de.amr.maze.alg.mst;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.pathfinder.api.Path;
-import de.amr.graph.pathfinder.impl.BestFirstSearch;
 
 /**
  * Reverse-Delete-MST algorithm using best-first search for connectivity test.
@@ -20,6 +18,6 @@ public class ReverseDeleteMST_BestFS extends ReverseDeleteMST {
 
 	@Override
 	protected boolean connected(int u, int v) {
-		return new BestFirstSearch(grid, x -> grid.manhattan(x, v)).findPath(u, v) != Path.NULL;
+		return search().bestFirst(u, v);
 	}
 }
\ No newline at end of file
@@ -2,8 +2,6 @@ package de.amr.maze.alg.mst;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.pathfinder.api.Path;
-import de.amr.graph.pathfinder.impl.BidiAStarSearch;
 
 /**
  * Reverse-Delete-MST algorithm using bidirectional A* for connectivity test.
@@ -20,7 +18,6 @@ public class ReverseDeleteMST_BidiAStar extends ReverseDeleteMST {
 
 	@Override
 	protected boolean connected(int u, int v) {
-		return new BidiAStarSearch(grid, (v1, v2) -> 1.0, grid::euclidean, grid::euclidean).findPath(u,
-				v) != Path.NULL;
+		return search().bidiAStar(u, v);
 	}
 }
\ No newline at end of file
@@ -2,8 +2,6 @@ package de.amr.maze.alg.mst;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.pathfinder.api.Path;
-import de.amr.graph.pathfinder.impl.DepthFirstSearch2;
 
 /**
  * Reverse-Delete-MST algorithm using depth-first search for connectivity test.
@@ -20,6 +18,6 @@ public class ReverseDeleteMST_DFS extends ReverseDeleteMST {
 
 	@Override
 	protected boolean connected(int u, int v) {
-		return new DepthFirstSearch2(grid).findPath(u, v) != Path.NULL;
+		return search().depthFirst(u, v);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package de.amr.maze.alg.mst;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.UnionFind;
+
+/**
+ * Reverse-Delete-MST algorithm using the planar dual of the grid for the connectivity test.
+ * <p>
+ * A 4-neighbor grid is a planar graph. Its faces are the squares between four cells and the outer
+ * face. Each edge separates two faces, and removing the edge merges them. The cells of the removed
+ * edge stay connected if and only if the two faces have not been merged before, that is, if the
+ * edge does not close a cycle in the dual graph. So the connectivity test is a union-find
+ * operation on the faces and runs in almost constant time instead of searching the grid.
+ * <p>
+ * The created mazes are the same as with the other reverse-delete generators.
+ * 
+ * @author Armin Reichert
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Reverse-delete_algorithm">Wikipedia</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Dual_graph">Wikipedia: Dual graph</a>
+ */
+public class ReverseDeleteMST_PlanarDual extends ReverseDeleteMST {
+
+	private UnionFind faces;
+	private int outerFace;
+
+	public ReverseDeleteMST_PlanarDual(GridGraph2D<TraversalState, Integer> grid) {
+		super(grid);
+	}
+
+	@Override
+	public void createMaze(int x, int y) {
+		if (grid.getTopology().dirCount() != 4) {
+			throw new IllegalStateException("Planar dual requires a grid with 4 neighbors per cell");
+		}
+		outerFace = (grid.numCols() - 1) * (grid.numRows() - 1);
+		faces = new UnionFind(outerFace + 1);
+		super.createMaze(x, y);
+		faces = null;
+	}
+
+	/**
+	 * Called after the edge {@code (u, v)} has been removed. Merges the faces on both sides of the
+	 * edge if this keeps the cells connected.
+	 */
+	@Override
+	protected boolean connected(int u, int v) {
+		int cell = Math.min(u, v), col = cell % grid.numCols(), row = cell / grid.numCols();
+		if (u / grid.numCols() == v / grid.numCols()) {
+			// horizontal edge: faces above and below
+			return faces.union(face(col, row - 1), face(col, row));
+		}
+		// vertical edge: faces left and right
+		return faces.union(face(col - 1, row), face(col, row));
+	}
+
+	private int face(int col, int row) {
+		int numCols = grid.numCols(), numRows = grid.numRows();
+		if (col < 0 || col >= numCols - 1 || row < 0 || row >= numRows - 1) {
+			return outerFace;
+		}
+		return row * (numCols - 1) + col;
+	}
+}
\ No newline at end of file
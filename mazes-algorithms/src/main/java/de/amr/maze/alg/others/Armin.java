@@ -19,7 +19,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import de.amr.datastruct.Partition;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
 import de.amr.graph.grid.impl.Grid4Topology;
@@ -27,6 +26,7 @@ import de.amr.graph.grid.impl.GridFactory;
 import de.amr.graph.grid.shapes.Rectangle;
 import de.amr.graph.grid.shapes.Square;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.UnionFind;
 
 /**
  * Maze generator similar to Eller's algorithm but growing the maze inside-out. To my knowledge this
@@ -36,7 +36,7 @@ import de.amr.maze.alg.core.MazeGenerator;
  */
 public class Armin extends MazeGenerator {
 
-	private Partition<Integer> mazeParts;
+	private UnionFind mazeParts;
 	private GridGraph2D<TraversalState, Integer> squareGrid;
 	private Square square;
 	private Iterable<Integer> layer;
@@ -52,7 +52,8 @@ public class Armin extends MazeGenerator {
 
 	@Override
 	public void createMaze(int x, int y) {
-		mazeParts = new Partition<>();
+		mazeParts = new UnionFind(grid.numVertices());
+		square = null;
 		int n = max(grid.numCols(), grid.numRows());
 		offsetX = (n - grid.numCols()) / 2;
 		offsetY = (n - grid.numRows()) / 2;
@@ -104,9 +105,9 @@ public class Armin extends MazeGenerator {
 		if (grid.adjacent(u, v)) {
 			return;
 		}
-		grid.addEdge(u, v);
-		grid.set(u, COMPLETED);
-		grid.set(v, COMPLETED);
+		addEdge(u, v);
+		setVisualState(u, COMPLETED);
+		setVisualState(v, COMPLETED);
 		mazeParts.union(u, v);
 	}
 
@@ -136,7 +137,8 @@ public class Armin extends MazeGenerator {
 	}
 
 	private void connectCellsWithNextLayer() {
-		Set<Partition<Integer>.Set> connected = new HashSet<>();
+		// representatives of the maze parts connected with the next layer
+		Set<Integer> connected = new HashSet<>();
 		// randomly select cells and connect with the next layer unless another cell from the same
 		// equivalence class is already connected to that layer
 		for (int cell : layer) {
@@ -157,7 +159,7 @@ public class Armin extends MazeGenerator {
 				unconnectedCells.add(cell);
 			}
 		}
-		Collections.shuffle(unconnectedCells);
+		Collections.shuffle(unconnectedCells, rnd);
 
 		// connect remaining cells and mark maze parts as connected
 		for (int cell : unconnectedCells) {
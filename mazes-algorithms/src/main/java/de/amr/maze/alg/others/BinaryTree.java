@@ -19,7 +19,9 @@ import java.util.stream.IntStream;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
 import de.amr.graph.grid.api.GridPosition;
+import de.amr.maze.alg.core.EdgeSink;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
 
 /**
  * Creates a random binary spanning tree.
@@ -52,12 +54,42 @@ public class BinaryTree extends MazeGenerator {
 				.findFirst().orElse(TOP_LEFT);
 		byte[] branching = branchingByRootPosition.get(rootPosition);
 		cells().forEach(v -> findRandomParent(v, branching[0], branching[1]).ifPresent(parent -> {
-			grid.addEdge(v, parent);
-			grid.set(v, COMPLETED);
-			grid.set(parent, COMPLETED);
+			addEdge(v, parent);
+			setVisualState(v, COMPLETED);
+			setVisualState(parent, COMPLETED);
 		}));
 	}
 
+	/**
+	 * Creates a maze with root at the top-left cell without a grid graph. The passages are passed to
+	 * the sink in row order, the cell index of {@code (col, row)} is {@code row * numCols + col}.
+	 * Memory usage is constant. Creates the same maze as an instance of this class with the same
+	 * random source and the top-left start cell.
+	 * 
+	 * @param numCols
+	 *                  number of columns
+	 * @param numRows
+	 *                  number of rows
+	 * @param rnd
+	 *                  random source
+	 * @param sink
+	 *                  receives the passages as (cell, parent) pairs
+	 */
+	public static void streamMaze(int numCols, int numRows, MazeRandom rnd, EdgeSink sink) {
+		for (int row = 0; row < numRows; ++row) {
+			for (int col = 0; col < numCols; ++col) {
+				int cell = row * numCols + col;
+				boolean northFirst = rnd.nextBoolean();
+				if (row > 0 && (northFirst || col == 0)) {
+					sink.accept(cell, cell - numCols);
+				}
+				else if (col > 0) {
+					sink.accept(cell, cell - 1);
+				}
+			}
+		}
+	}
+
 	protected IntStream cells() {
 		return grid.vertices();
 	}
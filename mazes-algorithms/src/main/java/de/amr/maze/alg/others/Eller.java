@@ -10,12 +10,12 @@ import java.util.List;
 import java.util.OptionalInt;
 import java.util.Set;
 
-import de.amr.datastruct.Partition;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
 import de.amr.graph.grid.impl.Grid4Topology;
 import de.amr.graph.grid.impl.Grid8Topology;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.UnionFind;
 
 /**
  * Maze generator using Eller's algorithm.
@@ -29,7 +29,7 @@ import de.amr.maze.alg.core.MazeGenerator;
  */
 public class Eller extends MazeGenerator {
 
-	private Partition<Integer> parts = new Partition<>();
+	private UnionFind parts;
 
 	public Eller(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
@@ -37,6 +37,7 @@ public class Eller extends MazeGenerator {
 
 	@Override
 	public void createMaze(int x, int y) {
+		parts = new UnionFind(grid.numVertices());
 		range(0, grid.numRows() - 1).forEach(row -> {
 			connectCellsInsideRow(row, false);
 			connectCellsWithNextRow(row);
@@ -45,9 +46,9 @@ public class Eller extends MazeGenerator {
 	}
 
 	private void connectCells(int u, int v) {
-		grid.addEdge(u, v);
-		grid.set(u, COMPLETED);
-		grid.set(v, COMPLETED);
+		addEdge(u, v);
+		setVisualState(u, COMPLETED);
+		setVisualState(v, COMPLETED);
 		parts.union(u, v);
 	}
 
@@ -62,7 +63,8 @@ public class Eller extends MazeGenerator {
 
 	private void connectCellsWithNextRow(int row) {
 		// connect randomly selected cells of this row with next row
-		Set<Partition<Integer>.Set> connectedParts = new HashSet<>();
+		// representatives of the parts connected with the next row
+		Set<Integer> connectedParts = new HashSet<>();
 		range(0, grid.numCols()).filter(col -> rnd.nextBoolean()).forEach(col -> {
 			int above = grid.cell(col, row);
 			randomUnconnectedCellBelow(col, row).ifPresent(below -> {
@@ -76,16 +78,16 @@ public class Eller extends MazeGenerator {
 		List<Integer> unconnectedCells = new ArrayList<>();
 		range(0, grid.numCols()).forEach(col -> {
 			int cell = grid.cell(col, row);
-			Partition<Integer>.Set part = parts.find(cell);
+			int part = parts.find(cell);
 			if (!connectedParts.contains(part)) {
 				unconnectedCells.add(cell);
 			}
 		});
 		// shuffle unconnected cells to avoid biased maze
-		Collections.shuffle(unconnectedCells);
+		Collections.shuffle(unconnectedCells, rnd);
 		// connect cells and mark component as connected
 		unconnectedCells.forEach(top -> {
-			Partition<Integer>.Set part = parts.find(top);
+			int part = parts.find(top);
 			if (!connectedParts.contains(part)) {
 				int bottom = grid.cell(grid.col(top), row + 1);
 				if (parts.find(top) != parts.find(bottom)) {
@@ -1,6 +1,5 @@
 package de.amr.maze.alg.others;
 
-import static de.amr.datastruct.StreamUtils.randomElement;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 
 import java.util.BitSet;
@@ -36,12 +35,12 @@ public class HuntAndKill extends MazeGenerator {
 			Optional<Integer> livingNeighbor = randomElement(grid.neighbors(animal).filter(this::isAlive));
 			if (livingNeighbor.isPresent()) {
 				grid.neighbors(animal).filter(this::isAlive).forEach(targets::set);
-				grid.addEdge(animal, livingNeighbor.get());
+				addEdge(animal, livingNeighbor.get());
 				animal = livingNeighbor.get();
 			}
 			else if (!targets.isEmpty()) {
 				animal = hunt();
-				grid.addEdge(animal, randomElement(grid.neighbors(animal).filter(this::isDead)).get());
+				addEdge(animal, randomElement(grid.neighbors(animal).filter(this::isDead)).get());
 			}
 		} while (!targets.isEmpty());
 	}
@@ -59,7 +58,7 @@ public class HuntAndKill extends MazeGenerator {
 	}
 
 	protected void kill(int animal) {
-		grid.set(animal, COMPLETED);
+		setState(animal, COMPLETED);
 		targets.clear(animal);
 	}
 }
\ No newline at end of file
@@ -20,12 +20,12 @@ public class RecursiveDivision extends MazeGenerator {
 
 	public RecursiveDivision(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
-		grid.fillOrthogonal();
-		grid.setDefaultVertexLabel(cell -> COMPLETED);
 	}
 
 	@Override
 	public void createMaze(int x, int y) {
+		grid.fillOrthogonal();
+		grid.setDefaultVertexLabel(cell -> COMPLETED);
 		divide(0, 0, grid.numCols(), grid.numRows());
 	}
 
@@ -46,20 +46,22 @@ public class RecursiveDivision extends MazeGenerator {
 			// door
 			int y = y0 + 1 + rnd.nextInt(h - 1);
 			int door = x0 + rnd.nextInt(w);
-			range(x0, x0 + w).filter(x -> x != door).forEach(x -> {
-				grid.edge(grid.cell(x, y - 1), grid.cell(x, y)).ifPresent(grid::removeEdge);
-			});
+			range(x0, x0 + w).filter(x -> x != door).forEach(x -> addWall(grid.cell(x, y - 1), grid.cell(x, y)));
 			divide(x0, y0, w, y - y0);
 			divide(x0, y, w, h - (y - y0));
 		} else {
 			// Build "vertical wall" at random x from [x0 + 1, x0 + w - 1], keep random door
 			int x = x0 + 1 + rnd.nextInt(w - 1);
 			int door = y0 + rnd.nextInt(h);
-			range(y0, y0 + h).filter(y -> y != door).forEach(y -> {
-				grid.edge(grid.cell(x - 1, y), grid.cell(x, y)).ifPresent(grid::removeEdge);
-			});
+			range(y0, y0 + h).filter(y -> y != door).forEach(y -> addWall(grid.cell(x - 1, y), grid.cell(x, y)));
 			divide(x0, y0, x - x0, h);
 			divide(x, y0, w - (x - x0), h);
 		}
 	}
+
+	private void addWall(int u, int v) {
+		if (grid.adjacent(u, v)) {
+			removeEdge(u, v);
+		}
+	}
 }
\ No newline at end of file
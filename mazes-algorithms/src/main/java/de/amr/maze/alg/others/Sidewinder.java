@@ -1,11 +1,12 @@
 package de.amr.maze.alg.others;
 
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
-import static java.util.stream.IntStream.range;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.EdgeSink;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
 
 /**
  * The "Sidewinder" algorithm.
@@ -18,32 +19,45 @@ import de.amr.maze.alg.core.MazeGenerator;
  */
 public class Sidewinder extends MazeGenerator {
 
-	private int current;
-
 	public Sidewinder(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
 	}
 
 	@Override
 	public void createMaze(int x, int y) {
-		range(0, grid.numRows()).forEach(row -> {
-			current = 0;
-			range(0, grid.numCols()).forEach(col -> {
-				if (row > 0 && (col == grid.numCols() - 1 || rnd.nextBoolean())) {
-					int passageCol = current + rnd.nextInt(col - current + 1);
-					int north = grid.cell(passageCol, row - 1), south = grid.cell(passageCol, row);
-					grid.addEdge(north, south);
-					grid.set(north, COMPLETED);
-					grid.set(south, COMPLETED);
-					current = col + 1;
+		streamMaze(grid.numCols(), grid.numRows(), rnd, (u, v) -> {
+			addEdge(u, v);
+			setVisualState(u, COMPLETED);
+			setVisualState(v, COMPLETED);
+		});
+	}
+
+	/**
+	 * Creates a maze without a grid graph. The passages are passed to the sink in row order, the cell
+	 * index of {@code (col, row)} is {@code row * numCols + col}. Memory usage is constant.
+	 * 
+	 * @param numCols
+	 *                  number of columns
+	 * @param numRows
+	 *                  number of rows
+	 * @param rnd
+	 *                  random source
+	 * @param sink
+	 *                  receives the passages
+	 */
+	public static void streamMaze(int numCols, int numRows, MazeRandom rnd, EdgeSink sink) {
+		for (int row = 0; row < numRows; ++row) {
+			int runStart = 0;
+			for (int col = 0; col < numCols; ++col) {
+				if (row > 0 && (col == numCols - 1 || rnd.nextBoolean())) {
+					int passageCol = runStart + rnd.nextInt(col - runStart + 1);
+					sink.accept((row - 1) * numCols + passageCol, row * numCols + passageCol);
+					runStart = col + 1;
 				}
-				else if (col + 1 < grid.numCols()) {
-					int west = grid.cell(col, row), east = grid.cell(col + 1, row);
-					grid.addEdge(west, east);
-					grid.set(west, COMPLETED);
-					grid.set(east, COMPLETED);
+				else if (col + 1 < numCols) {
+					sink.accept(row * numCols + col, row * numCols + col + 1);
 				}
-			});
-		});
+			}
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package de.amr.maze.alg.others;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+import de.amr.maze.alg.core.EdgeSink;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.core.RowSink;
+
+/**
+ * Eller's algorithm creating a maze row by row without a grid graph.
+ * <p>
+ * Only the set IDs of the current row are stored, they are relabelled to the range
+ * {@code [0, numCols)} for each row. Memory usage therefore depends on the number of columns only
+ * and mazes of any height can be streamed to a {@link RowSink}, e.g. a
+ * {@link de.amr.maze.alg.io.MazeFileRowWriter}. For the same random source, the maze is the same as
+ * the one created by {@link Eller} on a grid with 4-neighborhood.
+ *
+ * @author Armin Reichert
+ * 
+ * @see <a href="http://weblog.jamisbuck.org/2010/12/29/maze-generation-eller-s-algorithm">Jamis
+ *      Buck's blog: Eller's algorithm</a>
+ */
+public class StreamingEller {
+
+	private final int numCols;
+	private final MazeRandom rnd;
+
+	// set ID of each cell in the current row
+	private final int[] set;
+	// union-find forest over set IDs of the current row
+	private final int[] parent;
+	// for each set: has it been connected with the next row?
+	private final boolean[] connected;
+	// for relabelling
+	private final boolean[] used;
+	private final int[] unconnectedCols;
+	private final BitSet east;
+	private final BitSet south;
+
+	/**
+	 * @param numCols
+	 *                  number of columns
+	 * @param rnd
+	 *                  random source
+	 */
+	public StreamingEller(int numCols, MazeRandom rnd) {
+		if (numCols <= 0) {
+			throw new IllegalArgumentException("Illegal number of columns: " + numCols);
+		}
+		this.numCols = numCols;
+		this.rnd = Objects.requireNonNull(rnd);
+		set = new int[numCols];
+		parent = new int[numCols];
+		connected = new boolean[numCols];
+		used = new boolean[numCols];
+		unconnectedCols = new int[numCols];
+		east = new BitSet(numCols);
+		south = new BitSet(numCols);
+	}
+
+	/**
+	 * Creates a maze with the given number of rows and passes its rows to the sink.
+	 * 
+	 * @param numRows
+	 *                  number of rows
+	 * @param sink
+	 *                  receives the completed rows
+	 */
+	public void createMaze(int numRows, RowSink sink) {
+		if (numRows <= 0) {
+			throw new IllegalArgumentException("Illegal number of rows: " + numRows);
+		}
+		for (int col = 0; col < numCols; ++col) {
+			set[col] = col;
+			parent[col] = col;
+		}
+		for (int row = 0; row < numRows - 1; ++row) {
+			connectCellsInsideRow(false);
+			connectCellsWithNextRow();
+			sink.accept(row, east, south);
+			relabel();
+		}
+		connectCellsInsideRow(true);
+		south.clear();
+		sink.accept(numRows - 1, east, south);
+	}
+
+	/**
+	 * Creates a maze with the given number of rows and passes its passages to the sink. The cell index
+	 * of {@code (col, row)} is {@code row * numCols + col}, so the number of cells must not exceed
+	 * {@link Integer#MAX_VALUE}.
+	 * 
+	 * @param numRows
+	 *                  number of rows
+	 * @param sink
+	 *                  receives the passages
+	 */
+	public void createMaze(int numRows, EdgeSink sink) {
+		if ((long) numCols * numRows > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(String.format("Too many cells: %d x %d", numCols, numRows));
+		}
+		createMaze(numRows, (row, east, south) -> {
+			int first = row * numCols;
+			for (int col = east.nextSetBit(0); col != -1; col = east.nextSetBit(col + 1)) {
+				sink.accept(first + col, first + col + 1);
+			}
+			for (int col = south.nextSetBit(0); col != -1; col = south.nextSetBit(col + 1)) {
+				sink.accept(first + col, first + col + numCols);
+			}
+		});
+	}
+
+	private int find(int s) {
+		while (parent[s] != s) {
+			parent[s] = parent[parent[s]];
+			s = parent[s];
+		}
+		return s;
+	}
+
+	private void connectCellsInsideRow(boolean all) {
+		east.clear();
+		for (int col = 0; col < numCols - 1; ++col) {
+			if (all || rnd.nextBoolean()) {
+				int left = find(set[col]), right = find(set[col + 1]);
+				if (left != right) {
+					parent[right] = left;
+					east.set(col);
+				}
+			}
+		}
+	}
+
+	private void connectCellsWithNextRow() {
+		south.clear();
+		for (int s = 0; s < numCols; ++s) {
+			connected[s] = false;
+		}
+		// connect randomly selected cells with next row
+		for (int col = 0; col < numCols; ++col) {
+			if (rnd.nextBoolean()) {
+				south.set(col);
+				connected[find(set[col])] = true;
+			}
+		}
+		// connect one random cell of each still unconnected set
+		int n = 0;
+		for (int col = 0; col < numCols; ++col) {
+			if (!connected[find(set[col])]) {
+				unconnectedCols[n++] = col;
+			}
+		}
+		rnd.shuffle(unconnectedCols, n);
+		for (int i = 0; i < n; ++i) {
+			int col = unconnectedCols[i], root = find(set[col]);
+			if (!connected[root]) {
+				south.set(col);
+				connected[root] = true;
+			}
+		}
+	}
+
+	/**
+	 * Computes the set IDs of the next row: cells below a passage keep the set of the cell above,
+	 * all other cells get unused IDs.
+	 */
+	private void relabel() {
+		for (int s = 0; s < numCols; ++s) {
+			used[s] = false;
+		}
+		for (int col = south.nextSetBit(0); col != -1; col = south.nextSetBit(col + 1)) {
+			used[find(set[col])] = true;
+		}
+		int free = 0;
+		for (int col = 0; col < numCols; ++col) {
+			if (south.get(col)) {
+				set[col] = find(set[col]);
+			} else {
+				while (used[free]) {
+					++free;
+				}
+				used[free] = true;
+				set[col] = free;
+			}
+		}
+		for (int s = 0; s < numCols; ++s) {
+			parent[s] = s;
+		}
+	}
+}
\ No newline at end of file
@@ -1,18 +1,20 @@
 package de.amr.maze.alg.traversal;
 
-import static de.amr.datastruct.StreamUtils.permute;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 import static de.amr.graph.core.api.TraversalState.VISITED;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.CellFrontier;
+import de.amr.maze.alg.core.FrontierPolicy;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
 
 /**
- * "Growing tree" base algorithm.
+ * "Growing tree" base algorithm. The policy selecting the next frontier cell determines the kind
+ * of maze, e.g. {@link FrontierPolicy#NEWEST} creates a depth-first maze.
  * 
  * @see <a href=
  *      "http://weblog.jamisbuck.org/2011/1/27/maze-generation-growing-tree-algorithm.html">Maze
@@ -20,29 +22,39 @@ import de.amr.maze.alg.core.MazeGenerator;
  * 
  * @author Armin Reichert
  */
-public abstract class GrowingTree extends MazeGenerator {
+public class GrowingTree extends MazeGenerator {
 
-	public GrowingTree(GridGraph2D<TraversalState, Integer> grid) {
+	private final FrontierPolicy policy;
+
+	public GrowingTree(GridGraph2D<TraversalState, Integer> grid, FrontierPolicy policy) {
 		super(grid);
+		this.policy = Objects.requireNonNull(policy);
 	}
 
 	@Override
 	public void createMaze(int x, int y) {
-		List<Integer> frontier = new ArrayList<>();
+		Neighborhood neighborhood = new Neighborhood(grid);
+		int[] neighbors = new int[neighborhood.dirCount()];
+		CellFrontier frontier = new CellFrontier();
 		int start = grid.cell(x, y);
-		grid.set(start, VISITED);
+		setState(start, VISITED);
 		frontier.add(start);
 		while (!frontier.isEmpty()) {
-			int cell = selectCell(frontier);
-			permute(grid.neighbors(cell).filter(this::isCellUnvisited)).forEach(neighbor -> {
-				grid.set(neighbor, VISITED);
-				frontier.add(neighbor);
-				grid.addEdge(cell, neighbor);
-			});
-			grid.set(cell, COMPLETED);
+			int cell = policy.selectCell(frontier, rnd);
+			int n = 0;
+			for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+				int neighbor = neighborhood.neighbor(cell, dir);
+				if (neighbor != Neighborhood.NO_CELL && isCellUnvisited(neighbor)) {
+					neighbors[n++] = neighbor;
+				}
+			}
+			rnd.shuffle(neighbors, n);
+			for (int i = 0; i < n; ++i) {
+				setState(neighbors[i], VISITED);
+				frontier.add(neighbors[i]);
+				addEdge(cell, neighbors[i]);
+			}
+			setVisualState(cell, COMPLETED);
 		}
 	}
-
-	/** Selects and removes a cell from the frontier. */
-	protected abstract int selectCell(List<Integer> frontier);
 }
\ No newline at end of file
@@ -1,9 +1,8 @@
 package de.amr.maze.alg.traversal;
 
-import java.util.List;
-
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.FrontierPolicy;
 
 /**
  * Growing tree algorithm where always a random vertex is selected from the frontier.
@@ -13,11 +12,6 @@ import de.amr.graph.grid.api.GridGraph2D;
 public class GrowingTreeAlwaysRandom extends GrowingTree {
 
 	public GrowingTreeAlwaysRandom(GridGraph2D<TraversalState, Integer> grid) {
-		super(grid);
-	}
-
-	@Override
-	protected int selectCell(List<Integer> frontier) {
-		return frontier.remove(rnd.nextInt(frontier.size()));
+		super(grid, FrontierPolicy.RANDOM);
 	}
 }
\ No newline at end of file
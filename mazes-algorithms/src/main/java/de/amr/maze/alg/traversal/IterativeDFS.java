@@ -1,52 +1,82 @@
 package de.amr.maze.alg.traversal;
 
-import static de.amr.datastruct.StreamUtils.randomElement;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 import static de.amr.graph.core.api.TraversalState.VISITED;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 
-import de.amr.graph.core.api.Graph;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
 
 /**
- * Generates a maze by iterative random depth-first traversal of a grid.
+ * Generates a maze by iterative random depth-first traversal of a grid ("recursive backtracker").
+ * <p>
+ * Each stack frame holds a cell and a bitmask of the directions not yet tried from this cell. The
+ * next direction is drawn at random from this mask, so when the traversal backtracks to a cell, it
+ * continues with the remaining directions without scanning the neighbors again. Drawing the
+ * directions in random order and taking the first unvisited neighbor chooses each unvisited
+ * neighbor with the same probability.
  * 
  * @author Armin Reichert
  */
 public class IterativeDFS extends MazeGenerator {
 
+	private int[] cells;
+	private int[] untried;
+	private int top;
+
 	public IterativeDFS(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
 	}
 
 	@Override
 	public void createMaze(int x, int y) {
-		Deque<Integer> stack = new ArrayDeque<>();
-		int current = grid.cell(x, y);
-		grid.set(current, VISITED);
-		stack.push(current);
-		while (!stack.isEmpty()) {
-			int neighbor = randomElement(grid.neighbors(current).filter(this::isCellUnvisited))
-					.orElse(Graph.NO_VERTEX);
-			if (neighbor != Graph.NO_VERTEX) {
-				grid.addEdge(current, neighbor);
-				grid.set(neighbor, VISITED);
-				stack.push(neighbor);
-				current = neighbor;
+		Neighborhood neighborhood = new Neighborhood(grid);
+		int allDirs = (1 << neighborhood.dirCount()) - 1;
+		cells = new int[256];
+		untried = new int[256];
+		top = -1;
+		int start = grid.cell(x, y);
+		setState(start, VISITED);
+		push(start, allDirs);
+		while (top >= 0) {
+			int cell = cells[top], dirs = untried[top];
+			if (dirs == 0) {
+				--top;
+				setVisualState(cell, COMPLETED);
+				continue;
+			}
+			int dir = randomDir(dirs);
+			untried[top] = dirs & ~(1 << dir);
+			int neighbor = neighborhood.neighbor(cell, dir);
+			if (neighbor != Neighborhood.NO_CELL && isCellUnvisited(neighbor)) {
+				addEdge(cell, neighbor);
+				setState(neighbor, VISITED);
+				push(neighbor, allDirs);
 			}
-			else {
-				grid.set(current, COMPLETED);
-				// Note: current = stack.pop() would also be correct. The following lines
-				// just give a better visualization.
-				current = stack.peek();
-				if (isCellCompleted(current)) {
-					stack.pop();
-				}
+		}
+		cells = untried = null;
+	}
+
+	private void push(int cell, int dirs) {
+		if (++top == cells.length) {
+			cells = Arrays.copyOf(cells, 2 * top);
+			untried = Arrays.copyOf(untried, 2 * top);
+		}
+		cells[top] = cell;
+		untried[top] = dirs;
+	}
+
+	// returns a direction chosen uniformly from the set bits of the mask
+	private int randomDir(int dirs) {
+		int count = Integer.bitCount(dirs);
+		if (count > 1) {
+			for (int skip = rnd.nextInt(count); skip > 0; --skip) {
+				dirs &= dirs - 1;
 			}
 		}
+		return Integer.numberOfTrailingZeros(dirs);
 	}
 }
\ No newline at end of file
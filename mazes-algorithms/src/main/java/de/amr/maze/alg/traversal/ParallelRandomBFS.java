@@ -0,0 +1,189 @@
+package de.amr.maze.alg.traversal;
+
+import static de.amr.graph.core.api.TraversalState.COMPLETED;
+import static de.amr.graph.core.api.TraversalState.VISITED;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
+import de.amr.maze.alg.core.ParallelRange;
+import de.amr.maze.alg.core.SplitMix64;
+
+/**
+ * Maze generator based on a randomized breadth-first search that expands the frontier in parallel.
+ * <p>
+ * The frontier is expanded in rounds. In each round, each frontier cell is expanded with
+ * probability 1/2, otherwise it stays in the frontier. This gives the maze the irregular look of
+ * {@link RandomBFS}. The expanded cells are processed in parallel and claim their unvisited
+ * neighbors with compare-and-set. If several cells claim the same neighbor, the claim with the
+ * smallest random priority wins. After each round, the passage from each claimed cell to its
+ * winning neighbor is added, so each cell gets exactly one passage and the result is a spanning
+ * tree.
+ * <p>
+ * Whether a cell is expanded is a hash of the seed, the cell and the round, and the priority of a
+ * claim is a hash of the seed and the two cells. A claim only replaces a claim with a larger
+ * priority, so after a round each cell holds the smallest of its claims, no matter in which order
+ * the threads made them. The frontier of the next round is therefore the same set of cells.
+ * <p>
+ * The next frontier is built without shared counters. The frontier is split into chunks, each chunk
+ * counts its kept cells and the neighbors its cells have won, a prefix sum over the counts gives
+ * each chunk its range in the next frontier, and then the chunks fill their ranges in parallel.
+ *
+ * @author Armin Reichert
+ */
+public class ParallelRandomBFS extends MazeGenerator {
+
+	// claim of a cell not yet claimed by any neighbor
+	private static final int UNCLAIMED = Integer.MAX_VALUE;
+
+	// number of frontier cells processed by one task
+	private static final int CHUNK_SIZE = 256;
+
+	private final ForkJoinPool pool;
+	private Neighborhood neighborhood;
+	private int[] opposite;
+	private long seed;
+	private int round;
+	private boolean[] inTree;
+	private AtomicIntegerArray claim; // priority and direction to the claiming cell
+	private int[] frontier;
+	private int frontierSize;
+	private int[] next;
+	private int[] chunkStart; // start of each chunk's range in the next frontier
+
+	public ParallelRandomBFS(GridGraph2D<TraversalState, Integer> grid) {
+		this(grid, ForkJoinPool.commonPool());
+	}
+
+	public ParallelRandomBFS(GridGraph2D<TraversalState, Integer> grid, ForkJoinPool pool) {
+		super(grid);
+		this.pool = Objects.requireNonNull(pool);
+	}
+
+	@Override
+	public void createMaze(int x, int y) {
+		int numCells = grid.numVertices();
+		neighborhood = new Neighborhood(grid);
+		opposite = oppositeDirs(grid.getTopology());
+		seed = rnd.nextLong();
+		inTree = new boolean[numCells];
+		claim = new AtomicIntegerArray(numCells);
+		ParallelRange.forEach(pool, 0, numCells, cell -> claim.set(cell, UNCLAIMED));
+		frontier = new int[numCells];
+		next = new int[numCells];
+		chunkStart = new int[(numCells + CHUNK_SIZE - 1) / CHUNK_SIZE + 1];
+		int start = grid.cell(x, y);
+		inTree[start] = true;
+		setState(start, VISITED);
+		frontier[0] = start;
+		frontierSize = 1;
+		for (round = 0; frontierSize > 0; ++round) {
+			int numChunks = (frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+			ParallelRange.forEach(pool, 0, frontierSize, i -> {
+				if (isExpanded(frontier[i])) {
+					expand(frontier[i]);
+				}
+			});
+			ParallelRange.forEach(pool, 0, numChunks, chunk -> chunkStart[chunk + 1] = collectChunk(chunk, false));
+			for (int chunk = 0; chunk < numChunks; ++chunk) {
+				chunkStart[chunk + 1] += chunkStart[chunk];
+			}
+			ParallelRange.forEach(pool, 0, numChunks, chunk -> collectChunk(chunk, true));
+			int nextSize = chunkStart[numChunks];
+			for (int i = 0; i < nextSize; ++i) {
+				int cell = next[i];
+				if (!inTree[cell]) {
+					inTree[cell] = true;
+					addEdge(neighborhood.neighbor(cell, claim.get(cell) & 7), cell);
+					setVisualState(cell, VISITED);
+				}
+			}
+			if (!headless) {
+				for (int i = 0; i < frontierSize; ++i) {
+					if (isExpanded(frontier[i])) {
+						setVisualState(frontier[i], COMPLETED);
+					}
+				}
+			}
+			frontierSize = nextSize;
+			int[] tmp = frontier;
+			frontier = next;
+			next = tmp;
+		}
+		inTree = null;
+		claim = null;
+		frontier = next = null;
+		chunkStart = null;
+	}
+
+	private static int[] oppositeDirs(Topology top) {
+		int[] opposite = new int[top.dirCount()];
+		for (byte dir = 0; dir < top.dirCount(); ++dir) {
+			for (byte other = 0; other < top.dirCount(); ++other) {
+				if (top.dx(other) == -top.dx(dir) && top.dy(other) == -top.dy(dir)) {
+					opposite[dir] = other;
+				}
+			}
+		}
+		return opposite;
+	}
+
+	private void expand(int cell) {
+		for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+			int neighbor = neighborhood.neighbor(cell, dir);
+			if (neighbor != Neighborhood.NO_CELL && !inTree[neighbor]) {
+				int key = (int) (SplitMix64.hash(seed, cell, neighbor) >>> 37) << 3 | opposite[dir];
+				int current = claim.get(neighbor);
+				while (key < current && !claim.compareAndSet(neighbor, current, key)) {
+					current = claim.get(neighbor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collects the next frontier cells of a chunk: the kept cells and the neighbors won by the
+	 * expanded cells. Must be called after all claims of the round are made.
+	 * 
+	 * @param chunk
+	 *                chunk index
+	 * @param store
+	 *                if the cells are stored in the chunk's range of the next frontier
+	 * @return number of next frontier cells of the chunk
+	 */
+	private int collectChunk(int chunk, boolean store) {
+		int count = 0, pos = chunkStart[chunk];
+		for (int i = chunk * CHUNK_SIZE; i < Math.min(frontierSize, (chunk + 1) * CHUNK_SIZE); ++i) {
+			int cell = frontier[i];
+			if (!isExpanded(cell)) {
+				if (store) {
+					next[pos + count] = cell;
+				}
+				++count;
+			} else {
+				for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+					int neighbor = neighborhood.neighbor(cell, dir);
+					// the direction of the winning claim leads back to the winning cell
+					if (neighbor != Neighborhood.NO_CELL && !inTree[neighbor]
+							&& (claim.get(neighbor) & 7) == opposite[dir]) {
+						if (store) {
+							next[pos + count] = neighbor;
+						}
+						++count;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	private boolean isExpanded(int cell) {
+		return (SplitMix64.hash(seed, cell, ~round) & 1) == 0;
+	}
+}
\ No newline at end of file
@@ -1,18 +1,20 @@
 package de.amr.maze.alg.traversal;
 
-import static de.amr.datastruct.StreamUtils.permute;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 import static de.amr.graph.core.api.TraversalState.VISITED;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.CellFrontier;
+import de.amr.maze.alg.core.FrontierPolicy;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
 
 /**
  * Maze generator based on a randomized breadth-first search.
+ * <p>
+ * The next cell is chosen at random from the frontier and removed in constant time (see
+ * {@link CellFrontier#remove(int)}).
  * 
  * @author Armin Reichert
  */
@@ -24,18 +26,28 @@ public class RandomBFS extends MazeGenerator {
 
 	@Override
 	public void createMaze(int x, int y) {
-		List<Integer> frontier = new ArrayList<>();
+		Neighborhood neighborhood = new Neighborhood(grid);
+		int[] neighbors = new int[neighborhood.dirCount()];
+		CellFrontier frontier = new CellFrontier();
 		int start = grid.cell(x, y);
-		grid.set(start, VISITED);
+		setState(start, VISITED);
 		frontier.add(start);
 		while (!frontier.isEmpty()) {
-			int cell = frontier.remove(rnd.nextInt(frontier.size()));
-			grid.set(cell, COMPLETED);
-			permute(grid.neighbors(cell).filter(this::isCellUnvisited)).forEach(neighbor -> {
-				grid.addEdge(cell, neighbor);
-				grid.set(neighbor, VISITED);
-				frontier.add(neighbor);
-			});
+			int cell = FrontierPolicy.RANDOM.selectCell(frontier, rnd);
+			setVisualState(cell, COMPLETED);
+			int n = 0;
+			for (int dir = 0; dir < neighborhood.dirCount(); ++dir) {
+				int neighbor = neighborhood.neighbor(cell, dir);
+				if (neighbor != Neighborhood.NO_CELL && isCellUnvisited(neighbor)) {
+					neighbors[n++] = neighbor;
+				}
+			}
+			rnd.shuffle(neighbors, n);
+			for (int i = 0; i < n; ++i) {
+				addEdge(cell, neighbors[i]);
+				setState(neighbors[i], VISITED);
+				frontier.add(neighbors[i]);
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package de.amr.maze.alg.traversal;
 
-import static de.amr.datastruct.StreamUtils.randomElement;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 import static de.amr.graph.core.api.TraversalState.VISITED;
 
@@ -33,16 +32,16 @@ public class RecursiveDFS extends MazeGenerator {
 
 	private void createMazeFrom(int cell) {
 		/*@formatter:off*/
-		grid.set(cell, VISITED);
+		setState(cell, VISITED);
 		for (Optional<Integer> unvisitedNeighbor = randomUnvisitedNeighbor(cell);
 				unvisitedNeighbor.isPresent(); 
 				unvisitedNeighbor = randomUnvisitedNeighbor(cell)) 
 		{
 			int neighbor = unvisitedNeighbor.get();
-			grid.addEdge(cell, neighbor);
+			addEdge(cell, neighbor);
 			createMazeFrom(neighbor);
 		}
-		grid.set(cell, COMPLETED);
+		setVisualState(cell, COMPLETED);
 		/*@formatter:on*/
 	}
 
@@ -1,6 +1,5 @@
 package de.amr.maze.alg.ust;
 
-import static de.amr.datastruct.StreamUtils.randomElement;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 import static de.amr.graph.core.api.TraversalState.VISITED;
 
@@ -45,29 +44,56 @@ public class AldousBroderUST extends MazeGenerator {
 	}
 
 	public void run(int start, int limit) {
-		currentCell = start;
-		grid.set(currentCell, COMPLETED);
-		numVisitedCells = 1;
+		start(start);
 		while (numVisitedCells < limit) {
 			visitRandomNeighbor();
 		}
 	}
 
+	/**
+	 * Starts the random walk at the given cell and adds this cell to the maze.
+	 * 
+	 * @param start
+	 *                start cell
+	 */
+	void start(int start) {
+		currentCell = start;
+		setState(currentCell, COMPLETED);
+		numVisitedCells = 1;
+	}
+
+	/**
+	 * @return number of cells added to the maze so far
+	 */
+	int getNumVisitedCells() {
+		return numVisitedCells;
+	}
+
 	/**
 	 * Visits a random neighbor of the current cell and adds it to the maze if visited for the first
 	 * time.
+	 * 
+	 * @return {@code true} if the neighbor has been added to the maze
 	 */
-	private void visitRandomNeighbor() {
+	boolean visitRandomNeighbor() {
 		int neighbor = randomElement(grid.neighbors(currentCell)).get();
+		probe.walkStep();
+		boolean added = false;
 		if (isCellUnvisited(neighbor)) {
-			grid.addEdge(currentCell, neighbor);
-			grid.set(neighbor, COMPLETED);
+			addEdge(currentCell, neighbor);
+			setState(neighbor, COMPLETED);
 			++numVisitedCells;
+			added = true;
+		} else {
+			probe.revisit();
 		}
 		currentCell = neighbor;
-		// for animation only:
-		TraversalState state = grid.get(currentCell);
-		grid.set(currentCell, VISITED);
-		grid.set(currentCell, state);
+		if (!headless) {
+			// for animation only:
+			TraversalState state = grid.get(currentCell);
+			setState(currentCell, VISITED);
+			setState(currentCell, state);
+		}
+		return added;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package de.amr.maze.alg.ust;
+
+import static de.amr.graph.core.api.TraversalState.COMPLETED;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
+import de.amr.maze.alg.core.ParallelRange;
+import de.amr.maze.alg.core.SplitMix64;
+
+/**
+ * Creates a uniform spanning tree using Propp and Wilson's cycle popping, with cycles popped in
+ * parallel.
+ * <p>
+ * Each cell except the root has a stack of random arrows, each pointing to a neighbor chosen
+ * uniformly at random. The top arrows of all cells form a graph where each cell has exactly one
+ * outgoing arrow. As long as this graph contains a cycle, the top arrows of the cells on the cycle
+ * are popped. When no cycle is left, the arrows form a spanning tree directed towards the root.
+ * The resulting tree does not depend on the order in which cycles are popped and it is uniformly
+ * distributed.
+ * <p>
+ * A cycle lying inside some block of the grid can be popped without looking at the rest of the
+ * grid. So the grid is divided into blocks of {@value #BLOCK_SIZE} x {@value #BLOCK_SIZE} cells
+ * that pop their inner cycles in parallel. Then blocks are repeatedly merged with their neighbors
+ * (doubling the block size) and again pop their inner cycles, until a single block covers the grid.
+ * Most cycles are short and are popped on the lower levels.
+ * <p>
+ * The arrow stacks are not stored but computed from the seed, the cell and the stack position, so
+ * every cell sees the same arrows in any run with the same seed. As the popped cycles do not depend
+ * on the order of popping, neither the block size nor the scheduling of the blocks on the threads
+ * changes the tree.
+ *
+ * @author Armin Reichert
+ *
+ * @see <a href="https://doi.org/10.1006/jagm.1997.0917">Propp, Wilson: How to Get a Perfectly
+ *      Random Sample from a Generic Markov Chain and Generate a Random Spanning Tree of a Directed
+ *      Graph</a>
+ */
+public class ParallelCyclePoppingUST extends MazeGenerator {
+
+	public static final int BLOCK_SIZE = 64;
+
+	// cell status: leads to the root
+	private static final int FINAL = -1;
+
+	private final ForkJoinPool pool;
+	private Neighborhood neighborhood;
+	private long seed;
+	private int[] next; // target of current arrow
+	private int[] stackPos; // position of current arrow in the cell's stack
+	private int[] status;
+
+	public ParallelCyclePoppingUST(GridGraph2D<TraversalState, Integer> grid) {
+		this(grid, ForkJoinPool.commonPool());
+	}
+
+	public ParallelCyclePoppingUST(GridGraph2D<TraversalState, Integer> grid, ForkJoinPool pool) {
+		super(grid);
+		this.pool = Objects.requireNonNull(pool);
+	}
+
+	@Override
+	public void createMaze(int x, int y) {
+		int numCols = grid.numCols(), numRows = grid.numRows(), numCells = grid.numVertices();
+		neighborhood = new Neighborhood(grid);
+		if (Integer.bitCount(neighborhood.dirCount()) != 1) {
+			throw new IllegalStateException("Number of directions must be a power of 2");
+		}
+		seed = rnd.nextLong();
+		int root = grid.cell(x, y);
+		next = new int[numCells];
+		stackPos = new int[numCells];
+		status = new int[numCells];
+		status[root] = FINAL;
+		ParallelRange.forEach(pool, 0, numCells, cell -> {
+			if (cell != root) {
+				next[cell] = popArrow(cell);
+			}
+		});
+		for (int level = 0, blockSize = BLOCK_SIZE;; ++level, blockSize *= 2) {
+			int lvl = level, size = blockSize;
+			int blocksX = (numCols + size - 1) / size, blocksY = (numRows + size - 1) / size;
+			ParallelRange.forEach(pool, 0, blocksX * blocksY, block -> {
+				int col = block % blocksX * size, row = block / blocksX * size;
+				popCyclesInBlock(lvl, col, row, Math.min(col + size, numCols), Math.min(row + size, numRows));
+			});
+			if (blocksX == 1 && blocksY == 1) {
+				break;
+			}
+		}
+		for (int cell = 0; cell < numCells; ++cell) {
+			if (cell != root) {
+				addEdge(cell, next[cell]);
+			}
+			setVisualState(cell, COMPLETED);
+		}
+		next = stackPos = status = null;
+	}
+
+	/**
+	 * Pops all cycles inside the given block. Afterwards, each cell of the block leads to the root or
+	 * out of the block.
+	 */
+	private void popCyclesInBlock(int level, int colFrom, int rowFrom, int colTo, int rowTo) {
+		int numCols = grid.numCols();
+		// status values of the current level, smaller values mean unknown
+		int onPath = 2 * level + 1, leavesBlock = 2 * level + 2;
+		IntArrayStack path = new IntArrayStack(), pending = new IntArrayStack();
+		for (int row = rowFrom; row < rowTo; ++row) {
+			for (int col = colFrom; col < colTo; ++col) {
+				pending.push(row * numCols + col);
+				while (!pending.isEmpty()) {
+					int current = pending.pop();
+					if (status[current] == FINAL || status[current] == leavesBlock) {
+						continue;
+					}
+					// follow the arrows until the path leaves the block, reaches the root or closes a cycle
+					while (true) {
+						int c = current % numCols, r = current / numCols;
+						boolean inside = colFrom <= c && c < colTo && rowFrom <= r && r < rowTo;
+						if (!inside || status[current] == leavesBlock || status[current] == FINAL) {
+							int pathStatus = inside && status[current] == FINAL ? FINAL : leavesBlock;
+							while (!path.isEmpty()) {
+								status[path.pop()] = pathStatus;
+							}
+							break;
+						}
+						if (status[current] == onPath) {
+							// pop cycle, the popped cells except the current one must be visited again
+							int cell;
+							do {
+								cell = path.pop();
+								status[cell] = 0;
+								next[cell] = popArrow(cell);
+								if (cell != current) {
+									pending.push(cell);
+								}
+							} while (cell != current);
+						}
+						status[current] = onPath;
+						path.push(current);
+						current = next[current];
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Takes the next arrow from the stack of the given cell. Arrows pointing outside of the grid are
+	 * skipped, so each neighbor is chosen with the same probability.
+	 *
+	 * @param cell
+	 *               grid cell
+	 * @return cell the arrow points to
+	 */
+	private int popArrow(int cell) {
+		int dirMask = neighborhood.dirCount() - 1;
+		while (true) {
+			int dir = (int) (SplitMix64.hash(seed, cell, stackPos[cell]++) & dirMask);
+			int neighbor = neighborhood.neighbor(cell, dir);
+			if (neighbor != Neighborhood.NO_CELL) {
+				return neighbor;
+			}
+		}
+	}
+
+	private static class IntArrayStack {
+
+		private int[] elements = new int[64];
+		private int size;
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void push(int value) {
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, 2 * size);
+			}
+			elements[size++] = value;
+		}
+
+		int pop() {
+			return elements[--size];
+		}
+	}
+}
\ No newline at end of file
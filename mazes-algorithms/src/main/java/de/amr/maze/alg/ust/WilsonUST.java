@@ -1,13 +1,14 @@
 package de.amr.maze.alg.ust;
 
-import static de.amr.datastruct.StreamUtils.randomElement;
 import static de.amr.graph.core.api.TraversalState.COMPLETED;
 
 import java.util.stream.IntStream;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.maze.alg.core.DirectionArray;
 import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.Neighborhood;
 
 /**
  * Wilson's algorithm.
@@ -31,8 +32,9 @@ import de.amr.maze.alg.core.MazeGenerator;
  */
 public abstract class WilsonUST extends MazeGenerator {
 
-	private byte[] lastWalkDir;
-	private int current;
+	private Neighborhood neighborhood;
+	private DirectionArray lastWalkDir;
+	private long totalWalkSteps;
 
 	public WilsonUST(GridGraph2D<TraversalState, Integer> grid) {
 		super(grid);
@@ -44,7 +46,7 @@ public abstract class WilsonUST extends MazeGenerator {
 	}
 
 	protected void runWilsonAlgorithm(int start) {
-		grid.set(start, COMPLETED);
+		setState(start, COMPLETED);
 		randomWalkStartCells().forEach(this::loopErasedRandomWalk);
 	}
 
@@ -64,29 +66,44 @@ public abstract class WilsonUST extends MazeGenerator {
 	 */
 	protected final void loopErasedRandomWalk(int walkStart) {
 		if (lastWalkDir == null) {
-			lastWalkDir = new byte[grid.numVertices()];
+			neighborhood = new Neighborhood(grid);
+			lastWalkDir = new DirectionArray(grid.numVertices(), neighborhood.dirCount());
 		}
 		// if walk start is already inside tree, do nothing
 		if (isCellCompleted(walkStart)) {
 			return;
 		}
 		// do a random walk until it touches the tree created so far
-		current = walkStart;
+		int dirCount = neighborhood.dirCount();
+		int current = walkStart, walkSteps = 0;
 		while (!isCellCompleted(current)) {
-			byte walkDir = randomElement(grid.getTopology().dirs()).get();
-			grid.neighbor(current, walkDir).ifPresent(neighbor -> {
-				lastWalkDir[current] = walkDir;
+			int walkDir = rnd.nextInt(dirCount);
+			int neighbor = neighborhood.neighbor(current, walkDir);
+			if (neighbor != Neighborhood.NO_CELL) {
+				lastWalkDir.set(current, walkDir);
 				current = neighbor;
-			});
+				++walkSteps;
+				probe.walkStep();
+			}
 		}
 		// add the (loop-erased) random walk to the tree
 		current = walkStart;
+		int keptSteps = 0;
 		while (!isCellCompleted(current)) {
-			grid.neighbor(current, lastWalkDir[current]).ifPresent(neighbor -> {
-				grid.set(current, COMPLETED);
-				grid.addEdge(current, neighbor);
-				current = neighbor;
-			});
+			int neighbor = neighborhood.neighbor(current, lastWalkDir.get(current));
+			setState(current, COMPLETED);
+			addEdge(current, neighbor);
+			current = neighbor;
+			++keptSteps;
 		}
+		totalWalkSteps += walkSteps;
+		probe.walkCompleted(walkSteps, keptSteps);
+	}
+
+	/**
+	 * @return number of random walk steps made by this generator so far
+	 */
+	public long getTotalWalkSteps() {
+		return totalWalkSteps;
 	}
 }
\ No newline at end of file
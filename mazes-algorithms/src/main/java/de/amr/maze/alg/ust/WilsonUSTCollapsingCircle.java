@@ -1,12 +1,12 @@
 package de.amr.maze.alg.ust;
 
-import static de.amr.graph.core.api.TraversalState.COMPLETED;
 import static de.amr.graph.grid.api.GridPosition.CENTER;
-import static java.lang.Math.max;
+
+import java.util.stream.IntStream;
 
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.shapes.Circle;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected from a collapsing circle.
@@ -21,10 +21,14 @@ public class WilsonUSTCollapsingCircle extends WilsonUST {
 
 	@Override
 	public void createMaze(int x, int y) {
-		int center = grid.cell(CENTER);
-		grid.set(center, COMPLETED);
-		for (int r = max(grid.numRows(), grid.numCols()) - 1; r > 0; r--) {
-			new Circle(grid, center, r).forEach(this::loopErasedRandomWalk);
-		}
+		runWilsonAlgorithm(grid.cell(CENTER));
+	}
+
+	@Override
+	protected IntStream randomWalkStartCells() {
+		int w = grid.numCols(), h = grid.numRows(), center = grid.cell(CENTER);
+		int col = grid.col(center), row = grid.row(center);
+		int radius = GridTraversals.coveringRadius(w, h, col, row);
+		return GridTraversals.stream(GridTraversals.circles(w, h, col, row, radius, 1));
 	}
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package de.amr.maze.alg.ust;
 
-import static de.amr.graph.core.api.TraversalState.COMPLETED;
 import static de.amr.graph.grid.api.GridPosition.CENTER;
 
+import java.util.stream.IntStream;
+
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.shapes.Rectangle;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected from a collapsing rectangle.
@@ -20,16 +21,11 @@ public class WilsonUSTCollapsingRectangle extends WilsonUST {
 
 	@Override
 	public void createMaze(int x, int y) {
-		int start = grid.cell(CENTER);
-		grid.set(start, COMPLETED);
-		int col = 0, row = 0;
-		int width = grid.numCols(), height = grid.numRows();
-		while (width > 0 && height > 0) {
-			new Rectangle(grid, grid.cell(col, row), width, height).forEach(this::loopErasedRandomWalk);
-			width -= 2;
-			height -= 2;
-			col += 1;
-			row += 1;
-		}
+		runWilsonAlgorithm(grid.cell(CENTER));
+	}
+
+	@Override
+	protected IntStream randomWalkStartCells() {
+		return GridTraversals.stream(GridTraversals.collapsingRectangles(grid.numCols(), grid.numRows()));
 	}
 }
\ No newline at end of file
@@ -2,10 +2,9 @@ package de.amr.maze.alg.ust;
 
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.StreamUtils;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.traversals.CollapsingWalls;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected alternating left-to-right and right-to-left
@@ -21,6 +20,6 @@ public class WilsonUSTCollapsingWalls extends WilsonUST {
 
 	@Override
 	protected IntStream randomWalkStartCells() {
-		return StreamUtils.toIntStream(new CollapsingWalls(grid));
+		return GridTraversals.stream(GridTraversals.collapsingWalls(grid.numCols(), grid.numRows()));
 	}
 }
\ No newline at end of file
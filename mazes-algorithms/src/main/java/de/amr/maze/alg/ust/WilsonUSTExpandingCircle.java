@@ -1,14 +1,12 @@
 package de.amr.maze.alg.ust;
 
 import static de.amr.graph.grid.api.GridPosition.CENTER;
-import static java.lang.Math.max;
 
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.StreamUtils;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.traversals.ExpandingCircle;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected from an expanding circle.
@@ -28,7 +26,9 @@ public class WilsonUSTExpandingCircle extends WilsonUST {
 
 	@Override
 	protected IntStream randomWalkStartCells() {
-		return StreamUtils.toIntStream(
-				new ExpandingCircle(grid, grid.cell(CENTER), 1, max(grid.numCols(), grid.numRows())));
+		int w = grid.numCols(), h = grid.numRows(), center = grid.cell(CENTER);
+		int col = grid.col(center), row = grid.row(center);
+		int radius = GridTraversals.coveringRadius(w, h, col, row);
+		return GridTraversals.stream(GridTraversals.circles(w, h, col, row, 1, radius));
 	}
 }
\ No newline at end of file
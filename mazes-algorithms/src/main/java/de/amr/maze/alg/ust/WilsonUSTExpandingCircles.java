@@ -1,17 +1,16 @@
 package de.amr.maze.alg.ust;
 
 import static de.amr.graph.grid.api.GridPosition.CENTER;
-import static de.amr.graph.grid.iterators.IteratorFactory.parallel;
-import static de.amr.graph.grid.iterators.IteratorFactory.sequence;
+import static de.amr.maze.alg.iterators.GridTraversals.interleave;
+import static de.amr.maze.alg.iterators.GridTraversals.sequence;
 import static java.lang.Math.max;
 
-import java.util.Iterator;
+import java.util.PrimitiveIterator;
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.StreamUtils;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.traversals.ExpandingCircle;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where grid cells are selected from five expanding circles.
@@ -31,40 +30,32 @@ public class WilsonUSTExpandingCircles extends WilsonUST {
 
 	@Override
 	protected IntStream randomWalkStartCells() {
-		Iterable<Integer> it = new Iterable<Integer>() {
-
-			@Override
-			public Iterator<Integer> iterator() {
-				int w = grid.numCols(), h = grid.numRows(), r = max(w / 2, h / 2);
-				/*@formatter:off*/
-				return sequence(
-					// expand 4 circles in parallel to certain size	
-					parallel(
-						expandingCircle(grid, w / 4, h / 4, 1, r / 4),
-						expandingCircle(grid, 3 * w / 4, h / 4, 1, r / 4),
-						expandingCircle(grid, w / 4, 3 * h / 4, 1, r / 4), 
-						expandingCircle(grid, 3 * w / 4, 3 * h / 4, 1, r / 4)
-					),
-					// expand 5th circle to half its size
-					expandingCircle(grid, w / 2, h / 2, 1, r / 2),
-					// expand first 4 circles to final size
-					parallel(
-						expandingCircle(grid, w / 4, h / 4, r / 4, r / 2),
-						expandingCircle(grid, 3 * w / 4, h / 4, r / 4, r / 2), 
-						expandingCircle(grid, w / 4, 3 * h / 4, r / 4, r / 2),
-						expandingCircle(grid, 3 * w / 4, 3 * h / 4, r / 4, r / 2)
-					),
-					// expand 5th circle to final size
-					expandingCircle(grid, w / 2, h / 2, r / 2, 2 * r)
-				);
-				/*@formatter:on*/
-			}
-		};
-		return StreamUtils.toIntStream(it);
+		int w = grid.numCols(), h = grid.numRows(), r = max(w / 2, h / 2);
+		/*@formatter:off*/
+		return GridTraversals.stream(sequence(
+			// expand 4 circles in parallel to certain size
+			interleave(
+				expandingCircle(w / 4, h / 4, 1, r / 4),
+				expandingCircle(3 * w / 4, h / 4, 1, r / 4),
+				expandingCircle(w / 4, 3 * h / 4, 1, r / 4),
+				expandingCircle(3 * w / 4, 3 * h / 4, 1, r / 4)
+			),
+			// expand 5th circle to half its size
+			expandingCircle(w / 2, h / 2, 1, r / 2),
+			// expand first 4 circles to final size
+			interleave(
+				expandingCircle(w / 4, h / 4, r / 4, r / 2),
+				expandingCircle(3 * w / 4, h / 4, r / 4, r / 2),
+				expandingCircle(w / 4, 3 * h / 4, r / 4, r / 2),
+				expandingCircle(3 * w / 4, 3 * h / 4, r / 4, r / 2)
+			),
+			// expand 5th circle to final size
+			expandingCircle(w / 2, h / 2, r / 2, 2 * r)
+		));
+		/*@formatter:on*/
 	}
 
-	private Iterator<Integer> expandingCircle(GridGraph2D<TraversalState, Integer> grid, int centerX,
-			int centerY, int rmin, int rmax) {
-		return new ExpandingCircle(grid, grid.cell(centerX, centerY), rmin, rmax).iterator();
+	private PrimitiveIterator.OfInt expandingCircle(int centerX, int centerY, int rmin, int rmax) {
+		return GridTraversals.circles(grid.numCols(), grid.numRows(), centerX, centerY, rmin, rmax);
 	}
 }
\ No newline at end of file
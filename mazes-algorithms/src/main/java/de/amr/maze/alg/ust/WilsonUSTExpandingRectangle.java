@@ -1,14 +1,13 @@
 package de.amr.maze.alg.ust;
 
 import static de.amr.graph.grid.api.GridPosition.TOP_LEFT;
+import static java.lang.Math.max;
 
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.StreamUtils;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.shapes.Rectangle;
-import de.amr.graph.grid.traversals.ExpandingRectangle;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected from an expanding rectangle.
@@ -28,11 +27,7 @@ public class WilsonUSTExpandingRectangle extends WilsonUST {
 
 	@Override
 	protected IntStream randomWalkStartCells() {
-		Rectangle startRect = new Rectangle(grid, grid.cell(TOP_LEFT), 1, 1);
-		ExpandingRectangle expRect = new ExpandingRectangle(startRect);
-		expRect.setExpandHorizontally(true);
-		expRect.setExpandVertically(true);
-		expRect.setMaxExpansion(grid.numCols() - 1);
-		return StreamUtils.toIntStream(expRect);
+		int w = grid.numCols(), h = grid.numRows();
+		return GridTraversals.stream(GridTraversals.expandingRectangle(w, h, 0, 0, 1, 1, 1, 1, max(w, h) - 1));
 	}
 }
\ No newline at end of file
@@ -4,10 +4,9 @@ import static de.amr.graph.grid.api.GridPosition.CENTER;
 
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.StreamUtils;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.traversals.Spiral;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected from an expanding spiral.
@@ -27,6 +26,8 @@ public class WilsonUSTExpandingSpiral extends WilsonUST {
 
 	@Override
 	protected IntStream randomWalkStartCells() {
-		return StreamUtils.toIntStream(new Spiral(grid, grid.cell(CENTER)));
+		int center = grid.cell(CENTER);
+		return GridTraversals
+				.stream(GridTraversals.spiral(grid.numCols(), grid.numRows(), grid.col(center), grid.row(center)));
 	}
 }
\ No newline at end of file
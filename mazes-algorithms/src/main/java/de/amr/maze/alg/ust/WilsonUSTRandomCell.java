@@ -1,7 +1,5 @@
 package de.amr.maze.alg.ust;
 
-import static de.amr.datastruct.StreamUtils.permute;
-
 import java.util.stream.IntStream;
 
 import de.amr.graph.core.api.TraversalState;
@@ -2,10 +2,9 @@ package de.amr.maze.alg.ust;
 
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.StreamUtils;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.traversals.RecursiveCrosses;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected from recursive crosses.
@@ -20,6 +19,6 @@ public class WilsonUSTRecursiveCrosses extends WilsonUST {
 
 	@Override
 	protected IntStream randomWalkStartCells() {
-		return StreamUtils.toIntStream(new RecursiveCrosses(grid));
+		return GridTraversals.stream(GridTraversals.recursiveCrosses(grid.numCols(), grid.numRows()));
 	}
 }
\ No newline at end of file
@@ -4,10 +4,9 @@ import static de.amr.graph.grid.api.GridPosition.BOTTOM_RIGHT;
 
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.StreamUtils;
 import de.amr.graph.core.api.TraversalState;
 import de.amr.graph.grid.api.GridGraph2D;
-import de.amr.graph.grid.traversals.RightToLeftSweep;
+import de.amr.maze.alg.iterators.GridTraversals;
 
 /**
  * Wilson's algorithm where the vertices are selected column-wise left-to-right.
@@ -27,6 +26,6 @@ public class WilsonUSTRightToLeftSweep extends WilsonUST {
 
 	@Override
 	protected IntStream randomWalkStartCells() {
-		return StreamUtils.toIntStream(new RightToLeftSweep(grid));
+		return GridTraversals.stream(GridTraversals.rightToLeftSweep(grid.numCols(), grid.numRows()));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package de.amr.maze.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import de.amr.maze.alg.core.CellFrontier;
+import de.amr.maze.alg.core.FrontierPolicy;
+import de.amr.maze.alg.core.MazeRandom;
+
+/**
+ * Test case for {@link CellFrontier} and {@link FrontierPolicy}.
+ *
+ * @author Armin Reichert
+ */
+public class CellFrontierTest {
+
+	private static CellFrontier frontier(int n) {
+		CellFrontier frontier = new CellFrontier();
+		for (int cell = 0; cell < n; ++cell) {
+			frontier.add(cell);
+		}
+		return frontier;
+	}
+
+	@Test
+	public void testQueueAndStack() {
+		CellFrontier frontier = frontier(5);
+		assertEquals(0, frontier.removeFirst());
+		assertEquals(4, frontier.removeLast());
+		assertEquals(1, frontier.removeFirst());
+		frontier.add(5);
+		assertEquals("[2, 3, 5]", frontier.toString());
+		assertEquals(3, frontier.size());
+	}
+
+	@Test
+	public void testSwapRemove() {
+		CellFrontier frontier = frontier(5);
+		assertEquals(1, frontier.remove(1));
+		assertEquals("[0, 4, 2, 3]", frontier.toString());
+		assertEquals(3, frontier.remove(3));
+		assertEquals("[0, 4, 2]", frontier.toString());
+	}
+
+	@Test
+	public void testGrowWrappedAround() {
+		CellFrontier frontier = new CellFrontier();
+		// move the ring buffer start before growing
+		for (int i = 0; i < 1000; ++i) {
+			frontier.add(i);
+			if (i % 3 == 0) {
+				assertEquals(i / 3, frontier.removeFirst());
+			}
+		}
+		int expected = 334;
+		while (!frontier.isEmpty()) {
+			assertEquals(expected++, frontier.removeFirst());
+		}
+		assertEquals(1000, expected);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testRemoveFromEmpty() {
+		new CellFrontier().removeLast();
+	}
+
+	@Test
+	public void testPolicies() {
+		MazeRandom rnd = new MazeRandom(42);
+		assertEquals(0, FrontierPolicy.OLDEST.selectCell(frontier(3), rnd));
+		assertEquals(2, FrontierPolicy.NEWEST.selectCell(frontier(3), rnd));
+		FrontierPolicy policy = FrontierPolicy.mix(FrontierPolicy.NEWEST, 0.75, FrontierPolicy.RANDOM);
+		int n = 10_000;
+		CellFrontier frontier = frontier(n);
+		BitSet selected = new BitSet();
+		int newest = 0;
+		while (!frontier.isEmpty()) {
+			int last = frontier.get(frontier.size() - 1), cell = policy.selectCell(frontier, rnd);
+			if (cell == last) {
+				++newest;
+			}
+			selected.set(cell);
+		}
+		// random selections hit the newest cell only rarely
+		assertTrue("Newest selected " + newest + " times", 0.72 * n < newest && newest < 0.78 * n);
+		assertEquals(n, selected.cardinality());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package de.amr.maze.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import de.amr.maze.alg.core.ConcurrentUnionFind;
+
+/**
+ * Test case for {@link ConcurrentUnionFind}.
+ *
+ * @author Armin Reichert
+ */
+public class ConcurrentUnionFindTest {
+
+	@Test
+	public void testUnion() {
+		ConcurrentUnionFind uf = new ConcurrentUnionFind(6);
+		assertEquals(6, uf.numSets());
+		assertEquals(6, uf.numElements());
+		assertTrue(uf.union(1, 0));
+		assertTrue(uf.union(3, 2));
+		assertTrue(uf.union(3, 1));
+		assertFalse(uf.union(0, 2));
+		assertEquals(3, uf.numSets());
+		assertTrue(uf.connected(0, 3));
+		assertFalse(uf.connected(0, 4));
+		// smallest element is the representative
+		assertEquals(0, uf.find(3));
+		assertTrue(uf.union(5, 4));
+		assertEquals(4, uf.find(5));
+	}
+
+	@Test
+	public void testConcurrentUnions() {
+		// unite all neighbors in a ring of n elements, each pair in several threads at once
+		int n = 100_000, copies = 4;
+		ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+		AtomicInteger successes = new AtomicInteger();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			pool.submit(() -> IntStream.range(0, n * copies).parallel().forEach(k -> {
+				int i = (int) ((k % n) * 7919L % n);
+				if (uf.union(i, (i + 1) % n)) {
+					successes.incrementAndGet();
+				}
+			})).join();
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(1, uf.numSets());
+		assertEquals(n - 1, successes.get());
+		for (int i = 0; i < n; ++i) {
+			assertEquals(0, uf.find(i));
+		}
+	}
+}
\ No newline at end of file
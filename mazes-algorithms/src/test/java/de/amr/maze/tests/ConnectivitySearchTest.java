@@ -0,0 +1,61 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.ConnectivitySearch;
+import de.amr.maze.alg.core.GridEdgeIds;
+import de.amr.maze.alg.core.UnionFind;
+
+/**
+ * Test case for {@link ConnectivitySearch}.
+ *
+ * @author Armin Reichert
+ */
+public class ConnectivitySearchTest {
+
+	private void testAgainstUnionFind(Topology top) {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(30, 20, top, UNVISITED, 0);
+		UnionFind components = new UnionFind(grid.numVertices());
+		GridEdgeIds edgeIds = new GridEdgeIds(grid);
+		Random rnd = new Random(42);
+		// random subgraph with many components of different sizes
+		for (int edge : edgeIds.edges()) {
+			if (rnd.nextInt(100) < 45) {
+				int u = edgeIds.either(edge), v = edgeIds.other(edge);
+				grid.addEdge(u, v);
+				components.union(u, v);
+			}
+		}
+		ConnectivitySearch search = new ConnectivitySearch(grid);
+		for (int i = 0; i < 2000; ++i) {
+			int u = rnd.nextInt(grid.numVertices()), v = rnd.nextInt(grid.numVertices());
+			boolean expected = components.connected(u, v);
+			assertEquals(expected, search.breadthFirst(u, v));
+			assertEquals(expected, search.depthFirst(u, v));
+			assertEquals(expected, search.hillClimbing(u, v));
+			assertEquals(expected, search.bestFirst(u, v));
+			assertEquals(expected, search.bidiAStar(u, v));
+		}
+	}
+
+	@Test
+	public void testGrid4() {
+		testAgainstUnionFind(Grid4Topology.get());
+	}
+
+	@Test
+	public void testGrid8() {
+		testAgainstUnionFind(Grid8Topology.get());
+	}
+}
\ No newline at end of file
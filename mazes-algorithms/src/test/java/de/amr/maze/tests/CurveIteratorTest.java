@@ -0,0 +1,91 @@
+package de.amr.maze.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.function.BiFunction;
+
+import org.junit.Test;
+
+import de.amr.maze.alg.iterators.CurveIterator;
+
+/**
+ * Test case for {@link CurveIterator}.
+ *
+ * @author Armin Reichert
+ */
+public class CurveIteratorTest {
+
+	private static boolean adjacent(int u, int v, int numCols) {
+		int dx = Math.abs(u % numCols - v % numCols), dy = Math.abs(u / numCols - v / numCols);
+		return dx + dy == 1;
+	}
+
+	private static void assertAllCellsOnce(CurveIterator it, int numCols, int numRows) {
+		BitSet visited = new BitSet();
+		int count = 0;
+		while (it.hasNext()) {
+			int cell = it.nextInt();
+			assertTrue(0 <= cell && cell < numCols * numRows);
+			assertFalse("Cell visited twice: " + cell, visited.get(cell));
+			visited.set(cell);
+			++count;
+		}
+		assertEquals(numCols * numRows, count);
+	}
+
+	private static int assertContinuous(CurveIterator it, int n) {
+		int first = it.nextInt(), prev = first;
+		while (it.hasNext()) {
+			int cell = it.nextInt();
+			assertTrue("Not adjacent: " + prev + ", " + cell, adjacent(prev, cell, n));
+			prev = cell;
+		}
+		return adjacent(first, prev, n) ? 1 : 0;
+	}
+
+	private static void testClipped(BiFunction<Integer, Integer, CurveIterator> fnCurve) {
+		int[][] sizes = { { 1, 1 }, { 1, 7 }, { 7, 1 }, { 10, 10 }, { 27, 5 }, { 100, 3 }, { 3, 100 }, { 1000, 10 } };
+		for (int[] size : sizes) {
+			assertAllCellsOnce(fnCurve.apply(size[0], size[1]), size[0], size[1]);
+		}
+	}
+
+	@Test
+	public void testHilbert() {
+		testClipped(CurveIterator::hilbert);
+		for (int n = 2; n <= 64; n *= 2) {
+			CurveIterator it = CurveIterator.hilbert(n, n);
+			assertEquals(0, it.nextInt());
+			assertContinuous(CurveIterator.hilbert(n, n), n);
+		}
+	}
+
+	@Test
+	public void testMoore() {
+		testClipped(CurveIterator::moore);
+		for (int n = 2; n <= 64; n *= 2) {
+			assertEquals("Moore curve must be closed", 1, assertContinuous(CurveIterator.moore(n, n), n));
+		}
+	}
+
+	@Test
+	public void testPeano() {
+		testClipped(CurveIterator::peano);
+		for (int n = 3; n <= 81; n *= 3) {
+			CurveIterator it = CurveIterator.peano(n, n);
+			assertEquals((n - 1) * n, it.nextInt());
+			assertContinuous(CurveIterator.peano(n, n), n);
+		}
+	}
+
+	@Test
+	public void testLongNarrowGridIsFast() {
+		int numCols = 100_000, numRows = 10;
+		long start = System.nanoTime();
+		assertAllCellsOnce(CurveIterator.hilbert(numCols, numRows), numCols, numRows);
+		assertTrue((System.nanoTime() - start) / 1_000_000 < 5_000);
+	}
+}
\ No newline at end of file
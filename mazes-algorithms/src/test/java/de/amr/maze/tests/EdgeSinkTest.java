@@ -0,0 +1,99 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.maze.tests.MazeTestUtils.edge;
+import static de.amr.maze.tests.MazeTestUtils.edges;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.EdgeSink;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.io.EdgeStreamReader;
+import de.amr.maze.alg.io.EdgeStreamWriter;
+import de.amr.maze.alg.others.BinaryTree;
+import de.amr.maze.alg.others.Sidewinder;
+import de.amr.maze.alg.ust.AldousBroderWilsonUST;
+
+/**
+ * Test case for the streaming output of generators.
+ *
+ * @author Armin Reichert
+ */
+public class EdgeSinkTest {
+
+	private static final int COLS = 37, ROWS = 23;
+	private static final long SEED = 4711;
+
+	private static Set<Long> createMaze(Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator,
+			EdgeSink sink) {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(COLS, ROWS, Grid4Topology.get(),
+				UNVISITED, 0);
+		MazeGenerator generator = fnGenerator.apply(grid);
+		generator.setRandom(new MazeRandom(SEED));
+		generator.setEdgeSink(sink);
+		generator.createMaze(0, 0);
+		return edges(grid);
+	}
+
+	@Test
+	public void testSidewinderStream() {
+		Set<Long> streamed = new HashSet<>();
+		Sidewinder.streamMaze(COLS, ROWS, new MazeRandom(SEED), (u, v) -> streamed.add(edge(u, v)));
+		assertEquals(COLS * ROWS - 1, streamed.size());
+		assertEquals(createMaze(Sidewinder::new, EdgeSink.NONE), streamed);
+	}
+
+	@Test
+	public void testBinaryTreeStream() {
+		Set<Long> streamed = new HashSet<>();
+		BinaryTree.streamMaze(COLS, ROWS, new MazeRandom(SEED), (u, v) -> streamed.add(edge(u, v)));
+		assertEquals(COLS * ROWS - 1, streamed.size());
+		assertEquals(createMaze(BinaryTree::new, EdgeSink.NONE), streamed);
+	}
+
+	@Test
+	public void testGeneratorSink() {
+		Set<Long> streamed = new HashSet<>();
+		assertEquals(createMaze(AldousBroderWilsonUST::new, (u, v) -> streamed.add(edge(u, v))), streamed);
+	}
+
+	@Test
+	public void testWriteRead() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (EdgeStreamWriter writer = new EdgeStreamWriter(Channels.newChannel(bytes), 64)) {
+			Sidewinder.streamMaze(COLS, ROWS, new MazeRandom(SEED), writer);
+			assertEquals(COLS * ROWS - 1, writer.getEdgeCount());
+		}
+		assertEquals(8 * (COLS * ROWS - 1), bytes.size());
+		Set<Long> written = new HashSet<>();
+		Sidewinder.streamMaze(COLS, ROWS, new MazeRandom(SEED), (u, v) -> written.add(edge(u, v)));
+		Set<Long> read = new HashSet<>();
+		try (EdgeStreamReader reader = new EdgeStreamReader(
+				Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), 100)) {
+			assertEquals(COLS * ROWS - 1, reader.readAll((u, v) -> read.add(edge(u, v))));
+		}
+		assertEquals(written, read);
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncatedStream() throws IOException {
+		try (EdgeStreamReader reader = new EdgeStreamReader(
+				Channels.newChannel(new ByteArrayInputStream(new byte[12])))) {
+			reader.readAll(EdgeSink.NONE);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.GenerationMetrics;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.mst.KruskalMST;
+import de.amr.maze.alg.mst.ReverseDeleteMST_BFS;
+import de.amr.maze.alg.ust.AldousBroderUST;
+import de.amr.maze.alg.ust.AldousBroderWilsonUST;
+import de.amr.maze.alg.ust.WilsonUSTRandomCell;
+
+/**
+ * Test case for {@link GenerationMetrics}.
+ *
+ * @author Armin Reichert
+ */
+public class GenerationMetricsTest {
+
+	private GridGraph2D<TraversalState, Integer> grid;
+	private GenerationMetrics metrics;
+
+	@Before
+	public void setUp() {
+		grid = GridFactory.emptyGrid(20, 20, Grid4Topology.get(), UNVISITED, 0);
+		metrics = new GenerationMetrics();
+	}
+
+	private void run(MazeGenerator generator) {
+		generator.setProbe(metrics);
+		metrics.measure(() -> generator.createMaze(0, 0));
+		assertTrue(metrics.getRandomDraws() > 0);
+		assertTrue(metrics.getTotalNanos() > 0);
+	}
+
+	@Test
+	public void testKruskal() {
+		run(new KruskalMST(grid));
+		assertEquals(grid.numVertices() - 1, metrics.getEdgesAdded());
+		assertEquals(2 * metrics.getEdgesAdded(), metrics.getStateChanges());
+	}
+
+	@Test
+	public void testAldousBroder() {
+		run(new AldousBroderUST(grid));
+		assertEquals(metrics.getWalkSteps(), metrics.getEdgesAdded() + metrics.getRevisits());
+	}
+
+	@Test
+	public void testWilson() {
+		run(new WilsonUSTRandomCell(grid));
+		assertEquals(metrics.getWalkSteps(), metrics.getEdgesAdded() + metrics.getErasedSteps());
+	}
+
+	@Test
+	public void testAldousBroderWilson() {
+		run(new AldousBroderWilsonUST(grid));
+		assertTrue(metrics.getRevisits() > 0);
+		assertTrue(metrics.getWalks() > 0);
+		assertTrue(metrics.getPhaseNanos("AldousBroder") > 0);
+		assertTrue(metrics.getPhaseNanos("Wilson") > 0);
+	}
+
+	@Test
+	public void testSharedRandomNotObserved() {
+		MazeRandom rnd = new MazeRandom(42);
+		MazeGenerator observed = new KruskalMST(grid);
+		observed.setRandom(rnd);
+		observed.setProbe(metrics);
+		assertSame(rnd, observed.getRandom());
+		// another generator using the same random source does not report to the probe
+		MazeGenerator other = new KruskalMST(GridFactory.emptyGrid(20, 20, Grid4Topology.get(), UNVISITED, 0));
+		other.setRandom(rnd);
+		other.createMaze(0, 0);
+		rnd.nextInt();
+		assertEquals(0, metrics.getRandomDraws());
+		observed.createMaze(0, 0);
+		assertTrue(metrics.getRandomDraws() > 0);
+	}
+
+	@Test
+	public void testReverseDelete() {
+		int numEdgesFullGrid = GridFactory.fullGrid(20, 20, Grid4Topology.get(), UNVISITED, 0).numEdges();
+		run(new ReverseDeleteMST_BFS(grid));
+		assertEquals(grid.numVertices() - 1, numEdgesFullGrid - metrics.getEdgesRemoved() + metrics.getEdgesAdded());
+		assertEquals(metrics.getEdgesRemoved(), metrics.getConnectivityQueries());
+	}
+}
\ No newline at end of file
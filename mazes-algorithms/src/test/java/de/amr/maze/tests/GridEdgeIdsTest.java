@@ -0,0 +1,57 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.GridEdgeIds;
+
+/**
+ * Test case for {@link GridEdgeIds}.
+ *
+ * @author Armin Reichert
+ */
+public class GridEdgeIdsTest {
+
+	private void testEdges(int numCols, int numRows, Topology top) {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(numCols, numRows, top, UNVISITED, 0);
+		GridGraph2D<TraversalState, Integer> fullGrid = GridFactory.fullGrid(numCols, numRows, top, UNVISITED, 0);
+		GridEdgeIds edgeIds = new GridEdgeIds(grid);
+		int[] edges = edgeIds.edges();
+		assertEquals(fullGrid.numEdges(), edgeIds.numEdges());
+		assertEquals(fullGrid.numEdges(), edges.length);
+		Set<Long> pairs = new HashSet<>();
+		for (int edge : edges) {
+			int u = edgeIds.either(edge), v = edgeIds.other(edge);
+			assertTrue(fullGrid.adjacent(u, v));
+			assertTrue(pairs.add((long) Math.min(u, v) << 32 | Math.max(u, v)));
+		}
+	}
+
+	@Test
+	public void testGrid4() {
+		testEdges(1, 1, Grid4Topology.get());
+		testEdges(1, 10, Grid4Topology.get());
+		testEdges(10, 1, Grid4Topology.get());
+		testEdges(17, 23, Grid4Topology.get());
+	}
+
+	@Test
+	public void testGrid8() {
+		testEdges(1, 1, Grid8Topology.get());
+		testEdges(1, 10, Grid8Topology.get());
+		testEdges(10, 1, Grid8Topology.get());
+		testEdges(17, 23, Grid8Topology.get());
+	}
+}
\ No newline at end of file
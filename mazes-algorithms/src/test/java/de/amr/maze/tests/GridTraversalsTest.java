@@ -0,0 +1,116 @@
+package de.amr.maze.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+import java.util.function.BiFunction;
+
+import org.junit.Test;
+
+import de.amr.maze.alg.iterators.GridTraversals;
+
+/**
+ * Test case for {@link GridTraversals}.
+ *
+ * @author Armin Reichert
+ */
+public class GridTraversalsTest {
+
+	private static final int[][] SIZES = { { 1, 1 }, { 1, 7 }, { 7, 1 }, { 2, 2 }, { 10, 10 }, { 27, 5 }, { 5, 27 },
+			{ 100, 3 }, { 3, 100 }, { 64, 64 } };
+
+	private static void assertAllCellsOnce(PrimitiveIterator.OfInt it, int numCols, int numRows) {
+		BitSet visited = new BitSet();
+		int count = 0;
+		while (it.hasNext()) {
+			int cell = it.nextInt();
+			assertTrue(0 <= cell && cell < numCols * numRows);
+			assertFalse("Cell visited twice: " + cell, visited.get(cell));
+			visited.set(cell);
+			++count;
+		}
+		assertEquals(numCols * numRows, count);
+	}
+
+	private static int[] cells(PrimitiveIterator.OfInt it) {
+		return GridTraversals.stream(it).toArray();
+	}
+
+	private static PrimitiveIterator.OfInt row(int length) {
+		return GridTraversals.leftToRightSweep(length, 1);
+	}
+
+	private static void assertAllSizes(BiFunction<Integer, Integer, PrimitiveIterator.OfInt> fnTraversal) {
+		for (int[] size : SIZES) {
+			assertAllCellsOnce(fnTraversal.apply(size[0], size[1]), size[0], size[1]);
+		}
+	}
+
+	@Test
+	public void testSweeps() {
+		assertAllSizes(GridTraversals::leftToRightSweep);
+		assertAllSizes(GridTraversals::rightToLeftSweep);
+		assertArrayEquals(new int[] { 0, 3, 1, 4, 2, 5 }, cells(GridTraversals.leftToRightSweep(3, 2)));
+		assertArrayEquals(new int[] { 5, 2, 4, 1, 3, 0 }, cells(GridTraversals.rightToLeftSweep(3, 2)));
+	}
+
+	@Test
+	public void testCollapsingWalls() {
+		assertAllSizes(GridTraversals::collapsingWalls);
+		assertArrayEquals(new int[] { 0, 3, 1, 2 }, cells(GridTraversals.collapsingWalls(4, 1)));
+	}
+
+	@Test
+	public void testSpiral() {
+		assertAllSizes((w, h) -> GridTraversals.spiral(w, h, w / 2, h / 2));
+		assertAllSizes((w, h) -> GridTraversals.spiral(w, h, 0, 0));
+		assertAllSizes((w, h) -> GridTraversals.spiral(w, h, w - 1, h - 1));
+		assertArrayEquals(new int[] { 4, 5, 8, 7, 6, 3, 0, 1, 2 },
+				cells(GridTraversals.spiral(3, 3, 1, 1)));
+	}
+
+	@Test
+	public void testCircles() {
+		assertAllSizes((w, h) -> GridTraversals.circles(w, h, w / 2, h / 2, 0,
+				GridTraversals.coveringRadius(w, h, w / 2, h / 2)));
+		assertAllSizes(
+				(w, h) -> GridTraversals.circles(w, h, 0, h - 1, GridTraversals.coveringRadius(w, h, 0, h - 1), 0));
+		// circle of radius 1 in a 3x3 grid, clockwise from the top
+		assertArrayEquals(new int[] { 1, 5, 7, 3 }, cells(GridTraversals.circles(3, 3, 1, 1, 1, 1)));
+		assertEquals(8, cells(GridTraversals.circles(100, 100, 50, 50, 2, 2)).length);
+	}
+
+	@Test
+	public void testRectangles() {
+		assertAllSizes(GridTraversals::collapsingRectangles);
+		assertAllSizes((w, h) -> GridTraversals.expandingRectangle(w, h, 0, 0, 1, 1, 1, 1, Math.max(w, h) - 1));
+		assertAllSizes((w, h) -> GridTraversals.expandingRectangle(w, h, 0, 0, 1, h, 1, 0, w - 1));
+		assertArrayEquals(new int[] { 0, 1, 2, 5, 8, 7, 6, 3 },
+				cells(GridTraversals.rectangle(3, 3, 0, 0, 3, 3)));
+		// expanding by 2 skips the cells inside of two borders
+		assertArrayEquals(new int[] { 0, 1, 2, 5, 8, 7, 6, 3 },
+				cells(GridTraversals.expandingRectangle(3, 3, 0, 0, 1, 1, 2, 2, 1)));
+	}
+
+	@Test
+	public void testRecursiveCrosses() {
+		assertAllSizes(GridTraversals::recursiveCrosses);
+		// middle row, middle column, then the four corners
+		assertArrayEquals(new int[] { 3, 4, 5, 1, 7, 0, 2, 6, 8 },
+				cells(GridTraversals.recursiveCrosses(3, 3)));
+	}
+
+	@Test
+	public void testCombinators() {
+		PrimitiveIterator.OfInt empty = GridTraversals.sequence();
+		assertArrayEquals(new int[] { 0, 1, 2, 0, 1 },
+				cells(GridTraversals.sequence(row(3), empty, row(2))));
+		assertArrayEquals(new int[] { 0, 0, 1, 1, 2 },
+				cells(GridTraversals.interleave(row(3), row(2))));
+		assertFalse(GridTraversals.interleave().hasNext());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.maze.tests.MazeTestUtils.edges;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.mst.KruskalMST;
+import de.amr.maze.alg.others.Armin;
+import de.amr.maze.alg.others.BinaryTree;
+import de.amr.maze.alg.others.Eller;
+import de.amr.maze.alg.others.Sidewinder;
+import de.amr.maze.alg.traversal.GrowingTreeLastOrRandom;
+import de.amr.maze.alg.traversal.IterativeDFS;
+import de.amr.maze.alg.traversal.ParallelRandomBFS;
+import de.amr.maze.alg.traversal.RandomBFS;
+import de.amr.maze.alg.traversal.RecursiveDFS;
+import de.amr.maze.alg.ust.AldousBroderUST;
+import de.amr.maze.alg.ust.AldousBroderWilsonUST;
+
+/**
+ * Tests that generators create the same mazes in headless mode.
+ *
+ * @author Armin Reichert
+ */
+public class HeadlessModeTest {
+
+	private static Set<Long> createMaze(Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator,
+			boolean headless) {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(40, 30, Grid4Topology.get(), UNVISITED, 0);
+		MazeGenerator generator = fnGenerator.apply(grid);
+		generator.setRandom(new MazeRandom(4711));
+		generator.setHeadless(headless);
+		generator.createMaze(0, 0);
+		assertEquals(grid.numVertices() - 1, grid.numEdges());
+		return edges(grid);
+	}
+
+	private static void test(Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator) {
+		assertEquals(createMaze(fnGenerator, false), createMaze(fnGenerator, true));
+	}
+
+	@Test
+	public void testAldousBroder() {
+		test(AldousBroderUST::new);
+	}
+
+	@Test
+	public void testAldousBroderWilson() {
+		test(AldousBroderWilsonUST::new);
+	}
+
+	@Test
+	public void testArmin() {
+		test(Armin::new);
+	}
+
+	@Test
+	public void testBinaryTree() {
+		test(BinaryTree::new);
+	}
+
+	@Test
+	public void testEller() {
+		test(Eller::new);
+	}
+
+	@Test
+	public void testGrowingTree() {
+		test(GrowingTreeLastOrRandom::new);
+	}
+
+	@Test
+	public void testIterativeDFS() {
+		test(IterativeDFS::new);
+	}
+
+	@Test
+	public void testParallelRandomBFS() {
+		test(ParallelRandomBFS::new);
+	}
+
+	@Test
+	public void testKruskal() {
+		test(KruskalMST::new);
+	}
+
+	@Test
+	public void testRandomBFS() {
+		test(RandomBFS::new);
+	}
+
+	@Test
+	public void testRecursiveDFS() {
+		test(RecursiveDFS::new);
+	}
+
+	@Test
+	public void testSidewinder() {
+		test(Sidewinder::new);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.graph.pathfinder.util.GraphSearchUtils;
+import de.amr.graph.util.GraphUtils;
+import de.amr.maze.alg.batch.MazeBatch;
+import de.amr.maze.alg.batch.MazeJob;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.mst.KruskalMST;
+import de.amr.maze.alg.others.RecursiveDivision;
+import de.amr.maze.alg.traversal.IterativeDFS;
+import de.amr.maze.alg.ust.WilsonUSTRandomCell;
+
+/**
+ * Test case for {@link MazeBatch}.
+ *
+ * @author Armin Reichert
+ */
+public class MazeBatchTest {
+
+	private static Set<String> edges(GridGraph2D<TraversalState, Integer> grid) {
+		return grid.edges()
+				.map(edge -> Math.min(edge.either(), edge.other()) + "-" + Math.max(edge.either(), edge.other()))
+				.collect(Collectors.toSet());
+	}
+
+	private static List<MazeJob> createJobs() {
+		List<MazeJob> jobs = new ArrayList<>();
+		for (int seed = 0; seed < 25; ++seed) {
+			jobs.add(new MazeJob("Kruskal", KruskalMST::new, 30, 20, Grid4Topology.get(), seed));
+			jobs.add(new MazeJob("IterativeDFS", IterativeDFS::new, 20, 30, Grid8Topology.get(), seed, 5, 5));
+			jobs.add(new MazeJob("RecursiveDivision", RecursiveDivision::new, 30, 20, Grid4Topology.get(), seed));
+			jobs.add(new MazeJob("Wilson", WilsonUSTRandomCell::new, 20, 30, Grid4Topology.get(), seed));
+		}
+		return jobs;
+	}
+
+	@Test
+	public void testBatch() {
+		List<MazeJob> jobs = createJobs();
+		Map<MazeJob, Set<String>> mazes = new ConcurrentHashMap<>();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			new MazeBatch(pool).run(jobs, (job, grid) -> {
+				assertEquals(grid.numVertices() - 1, grid.numEdges());
+				assertFalse(GraphUtils.containsCycle(grid));
+				assertTrue(GraphSearchUtils.isConnectedGraph(grid));
+				mazes.put(job, edges(grid));
+			});
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(jobs.size(), mazes.size());
+		// pooled grids create the same mazes as fresh grids
+		for (MazeJob job : jobs) {
+			GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(job.getNumCols(), job.getNumRows(),
+					job.getTopology(), UNVISITED, 0);
+			MazeGenerator generator = job.getGeneratorFactory().apply(grid);
+			generator.setRandom(new MazeRandom(job.getSeed()));
+			generator.createMaze(job.getStartCol(), job.getStartRow());
+			assertEquals(job.toString(), edges(grid), mazes.get(job));
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testFailingJob() {
+		List<MazeJob> jobs = createJobs();
+		jobs.add(new MazeJob("Failing", grid -> {
+			throw new UnsupportedOperationException();
+		}, 10, 10, Grid4Topology.get(), 0));
+		new MazeBatch().run(jobs, (job, grid) -> {
+		});
+	}
+}
\ No newline at end of file
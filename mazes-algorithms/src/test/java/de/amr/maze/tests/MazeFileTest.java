@@ -0,0 +1,118 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.maze.tests.MazeTestUtils.edges;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.core.PackedGridGraph;
+import de.amr.maze.alg.io.MazeFileHeader;
+import de.amr.maze.alg.io.MazeFileReader;
+import de.amr.maze.alg.io.MazeFileWriter;
+import de.amr.maze.alg.mst.KruskalMST;
+import de.amr.maze.alg.others.Sidewinder;
+import de.amr.maze.alg.traversal.IterativeDFS;
+
+/**
+ * Test case for the binary maze file format.
+ *
+ * @author Armin Reichert
+ */
+public class MazeFileTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path roundTrip(GridGraph2D<TraversalState, Integer> maze, long seed) throws IOException {
+		Path file = folder.newFile().toPath();
+		MazeFileWriter.write(file, maze, seed);
+		GridGraph2D<TraversalState, Integer> loaded = MazeFileReader.read(file);
+		assertEquals(maze.numCols(), loaded.numCols());
+		assertEquals(maze.numRows(), loaded.numRows());
+		assertEquals(maze.getTopology(), loaded.getTopology());
+		assertEquals(maze.numEdges(), loaded.numEdges());
+		assertEquals(edges(maze), edges(loaded));
+		return file;
+	}
+
+	@Test
+	public void testGridGraph() throws IOException {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(33, 17, Grid4Topology.get(), UNVISITED, 0);
+		KruskalMST generator = new KruskalMST(grid);
+		generator.setRandom(new MazeRandom(4711));
+		generator.createMaze(0, 0);
+		Path file = roundTrip(grid, 4711);
+		assertEquals(32 + (33 * 17 + 3) / 4, Files.size(file));
+		MazeFileHeader header = MazeFileReader.readHeader(file);
+		assertEquals(33, header.getNumCols());
+		assertEquals(17, header.getNumRows());
+		assertEquals(4, header.getDirCount());
+		assertEquals(4711, header.getSeed());
+	}
+
+	@Test
+	public void testPackedGridGraph() throws IOException {
+		for (int size = 1; size <= 20; ++size) {
+			PackedGridGraph grid = new PackedGridGraph(size, size + 3, UNVISITED);
+			new IterativeDFS(grid).createMaze(0, 0);
+			roundTrip(grid, size);
+		}
+	}
+
+	@Test
+	public void testGrid8WithoutDiagonals() throws IOException {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(20, 10, Grid8Topology.get(), UNVISITED, 0);
+		new Sidewinder(grid).createMaze(0, 0);
+		roundTrip(grid, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDiagonalsRejected() throws IOException {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(20, 10, Grid8Topology.get(), UNVISITED, 0);
+		grid.addEdge(grid.cell(0, 0), grid.cell(1, 1));
+		MazeFileWriter.write(folder.newFile().toPath(), grid, 0);
+	}
+
+	@Test
+	public void testRejectedMazeKeepsExistingFile() throws IOException {
+		Path file = folder.newFile().toPath();
+		Files.write(file, new byte[] { 1, 2, 3 });
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(20, 10, Grid8Topology.get(), UNVISITED, 0);
+		grid.addEdge(grid.cell(0, 0), grid.cell(1, 1));
+		try {
+			MazeFileWriter.write(file, grid, 0);
+			fail("Diagonal passage not rejected");
+		} catch (IllegalArgumentException e) {
+			assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(file));
+		}
+	}
+
+	@Test
+	public void testInvalidFile() throws IOException {
+		Path file = folder.newFile().toPath();
+		Files.write(file, new byte[100]);
+		try {
+			MazeFileReader.read(file);
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("Not a maze file"));
+			return;
+		}
+		throw new AssertionError("IOException expected");
+	}
+}
\ No newline at end of file
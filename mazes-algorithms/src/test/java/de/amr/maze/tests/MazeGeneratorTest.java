@@ -21,10 +21,13 @@ import de.amr.graph.grid.impl.Grid4Topology;
 import de.amr.graph.grid.impl.GridFactory;
 import de.amr.graph.pathfinder.util.GraphSearchUtils;
 import de.amr.graph.util.GraphUtils;
+import de.amr.maze.alg.core.FrontierPolicy;
 import de.amr.maze.alg.core.MazeGenerator;
 import de.amr.maze.alg.mst.BoruvkaMST;
 import de.amr.maze.alg.mst.KruskalMST;
+import de.amr.maze.alg.mst.ParallelBoruvkaMST;
 import de.amr.maze.alg.mst.PrimMST;
+import de.amr.maze.alg.mst.ReverseDeleteMST_PlanarDual;
 import de.amr.maze.alg.others.Armin;
 import de.amr.maze.alg.others.BinaryTree;
 import de.amr.maze.alg.others.BinaryTreeRandom;
@@ -33,14 +36,17 @@ import de.amr.maze.alg.others.HuntAndKill;
 import de.amr.maze.alg.others.HuntAndKillRandom;
 import de.amr.maze.alg.others.RecursiveDivision;
 import de.amr.maze.alg.others.Sidewinder;
+import de.amr.maze.alg.traversal.GrowingTree;
 import de.amr.maze.alg.traversal.GrowingTreeAlwaysFirst;
 import de.amr.maze.alg.traversal.GrowingTreeAlwaysLast;
 import de.amr.maze.alg.traversal.GrowingTreeAlwaysRandom;
 import de.amr.maze.alg.traversal.GrowingTreeLastOrRandom;
 import de.amr.maze.alg.traversal.IterativeDFS;
+import de.amr.maze.alg.traversal.ParallelRandomBFS;
 import de.amr.maze.alg.traversal.RandomBFS;
 import de.amr.maze.alg.ust.AldousBroderUST;
 import de.amr.maze.alg.ust.AldousBroderWilsonUST;
+import de.amr.maze.alg.ust.ParallelCyclePoppingUST;
 import de.amr.maze.alg.ust.WilsonUSTCollapsingCircle;
 import de.amr.maze.alg.ust.WilsonUSTCollapsingRectangle;
 import de.amr.maze.alg.ust.WilsonUSTCollapsingWalls;
@@ -137,6 +143,11 @@ public class MazeGeneratorTest {
 		test(new GrowingTreeLastOrRandom(grid));
 	}
 
+	@Test
+	public void testGrowingTreeMixed() {
+		test(new GrowingTree(grid, FrontierPolicy.mix(FrontierPolicy.NEWEST, 0.75, FrontierPolicy.RANDOM)));
+	}
+
 	@Test
 	public void testGrowingTreeAlwaysFirst() {
 		test(new GrowingTreeAlwaysFirst(grid));
@@ -172,6 +183,21 @@ public class MazeGeneratorTest {
 		test(new KruskalMST(grid));
 	}
 
+	@Test
+	public void testParallelBoruvka() {
+		test(new ParallelBoruvkaMST(grid));
+	}
+
+	@Test
+	public void testParallelCyclePopping() {
+		test(new ParallelCyclePoppingUST(grid));
+	}
+
+	@Test
+	public void testParallelRandomBFS() {
+		test(new ParallelRandomBFS(grid));
+	}
+
 	@Test
 	public void testPrim() {
 		test(new PrimMST(grid));
@@ -187,6 +213,11 @@ public class MazeGeneratorTest {
 		test(new RecursiveDivision(grid));
 	}
 
+	@Test
+	public void testReverseDeletePlanarDual() {
+		test(new ReverseDeleteMST_PlanarDual(grid));
+	}
+
 	@Test
 	public void testSideWinder() {
 		test(new Sidewinder(grid));
@@ -0,0 +1,125 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.maze.tests.MazeTestUtils.edges;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.mst.BoruvkaMST;
+import de.amr.maze.alg.mst.KruskalMST;
+import de.amr.maze.alg.mst.ParallelBoruvkaMST;
+import de.amr.maze.alg.mst.PrimMST;
+import de.amr.maze.alg.mst.ReverseDeleteMST_BFS;
+import de.amr.maze.alg.mst.ReverseDeleteMST_PlanarDual;
+import de.amr.maze.alg.others.Armin;
+import de.amr.maze.alg.others.Eller;
+import de.amr.maze.alg.traversal.IterativeDFS;
+import de.amr.maze.alg.traversal.ParallelRandomBFS;
+import de.amr.maze.alg.ust.AldousBroderWilsonUST;
+import de.amr.maze.alg.ust.ParallelCyclePoppingUST;
+import de.amr.maze.alg.ust.WilsonUSTRandomCell;
+
+/**
+ * Tests that generators using the same seed create identical mazes.
+ *
+ * @author Armin Reichert
+ */
+public class MazeRandomTest {
+
+	private static final long SEED = 4711;
+
+	private static Set<Long> createMaze(Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator,
+			long seed) {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(40, 30, Grid4Topology.get(), UNVISITED, 0);
+		MazeGenerator generator = fnGenerator.apply(grid);
+		generator.setRandom(new MazeRandom(seed));
+		generator.createMaze(0, 0);
+		return edges(grid);
+	}
+
+	private static void testReproducible(Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator) {
+		assertEquals(createMaze(fnGenerator, SEED), createMaze(fnGenerator, SEED));
+		assertNotEquals(createMaze(fnGenerator, SEED), createMaze(fnGenerator, SEED + 1));
+	}
+
+	@Test
+	public void testSplit() {
+		MazeRandom first = new MazeRandom(SEED).split(), second = new MazeRandom(SEED).split();
+		for (int i = 0; i < 100; ++i) {
+			assertEquals(first.nextInt(), second.nextInt());
+		}
+	}
+
+	@Test
+	public void testAldousBroderWilson() {
+		testReproducible(AldousBroderWilsonUST::new);
+	}
+
+	@Test
+	public void testArmin() {
+		testReproducible(Armin::new);
+	}
+
+	@Test
+	public void testBoruvka() {
+		testReproducible(BoruvkaMST::new);
+	}
+
+	@Test
+	public void testEller() {
+		testReproducible(Eller::new);
+	}
+
+	@Test
+	public void testIterativeDFS() {
+		testReproducible(IterativeDFS::new);
+	}
+
+	@Test
+	public void testKruskal() {
+		testReproducible(KruskalMST::new);
+	}
+
+	@Test
+	public void testParallelBoruvka() {
+		testReproducible(ParallelBoruvkaMST::new);
+	}
+
+	@Test
+	public void testParallelCyclePopping() {
+		testReproducible(ParallelCyclePoppingUST::new);
+	}
+
+	@Test
+	public void testParallelRandomBFS() {
+		testReproducible(ParallelRandomBFS::new);
+	}
+
+	@Test
+	public void testPrim() {
+		testReproducible(PrimMST::new);
+	}
+
+	@Test
+	public void testReverseDeletePlanarDual() {
+		testReproducible(ReverseDeleteMST_PlanarDual::new);
+		// same decisions as with graph search
+		assertEquals(createMaze(ReverseDeleteMST_BFS::new, SEED), createMaze(ReverseDeleteMST_PlanarDual::new, SEED));
+	}
+
+	@Test
+	public void testWilson() {
+		testReproducible(WilsonUSTRandomCell::new);
+	}
+}
\ No newline at end of file
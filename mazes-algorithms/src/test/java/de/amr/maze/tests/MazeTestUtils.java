@@ -0,0 +1,72 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.util.GraphUtils;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.core.PackedGridGraph;
+
+/**
+ * Helper methods shared by the test cases.
+ *
+ * @author Armin Reichert
+ */
+public class MazeTestUtils {
+
+	private MazeTestUtils() {
+	}
+
+	/**
+	 * @param u
+	 *            cell
+	 * @param v
+	 *            cell
+	 * @return key of the undirected edge {@code {u, v}}
+	 */
+	public static long edge(int u, int v) {
+		return (long) Math.min(u, v) << 32 | Math.max(u, v);
+	}
+
+	/**
+	 * @param grid
+	 *               grid
+	 * @return keys of all edges of the grid, see {@link #edge(int, int)}
+	 */
+	public static Set<Long> edges(GridGraph2D<?, ?> grid) {
+		return grid.edges().map(e -> edge(e.either(), e.other())).collect(Collectors.toSet());
+	}
+
+	/**
+	 * Creates 100 mazes per spanning tree of a 3x3 grid (192 trees) with different seeds and checks
+	 * that every tree occurs with a frequency between 50 and 150.
+	 *
+	 * @param fnGenerator
+	 *                      creates the generator for the grid
+	 */
+	public static void assertUniformSpanningTrees(Function<PackedGridGraph, MazeGenerator> fnGenerator) {
+		int numTrees = 192, samplesPerTree = 100;
+		PackedGridGraph grid = new PackedGridGraph(3, 3, UNVISITED);
+		MazeGenerator generator = fnGenerator.apply(grid);
+		Map<Set<Long>, Integer> count = new HashMap<>();
+		for (int seed = 0; seed < numTrees * samplesPerTree; ++seed) {
+			generator.reset();
+			generator.setRandom(new MazeRandom(seed));
+			generator.createMaze(0, 0);
+			assertFalse(GraphUtils.containsCycle(grid));
+			count.merge(edges(grid), 1, Integer::sum);
+		}
+		assertEquals(numTrees, count.size());
+		count.values().forEach(n -> assertTrue("Unexpected frequency: " + n, 50 <= n && n <= 150));
+	}
+}
\ No newline at end of file
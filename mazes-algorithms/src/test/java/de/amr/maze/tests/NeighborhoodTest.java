@@ -0,0 +1,68 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.DirectionArray;
+import de.amr.maze.alg.core.Neighborhood;
+
+/**
+ * Test case for {@link Neighborhood} and {@link DirectionArray}.
+ *
+ * @author Armin Reichert
+ */
+public class NeighborhoodTest {
+
+	private static void testNeighbors(Topology top) {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(7, 5, top, UNVISITED, 0);
+		Neighborhood neighborhood = new Neighborhood(grid);
+		assertEquals(top.dirCount(), neighborhood.dirCount());
+		grid.vertices().forEach(cell -> {
+			for (byte dir = 0; dir < top.dirCount(); ++dir) {
+				int expected = grid.neighbor(cell, dir).orElse(Neighborhood.NO_CELL);
+				assertEquals(expected, neighborhood.neighbor(cell, dir));
+			}
+		});
+	}
+
+	private static void testDirections(int dirCount) {
+		int numCells = 1001;
+		DirectionArray dirs = new DirectionArray(numCells, dirCount);
+		for (int cell = 0; cell < numCells; ++cell) {
+			dirs.set(cell, cell % dirCount);
+		}
+		dirs.set(500, dirCount - 1);
+		dirs.set(500, 0);
+		for (int cell = 0; cell < numCells; ++cell) {
+			assertEquals(cell == 500 ? 0 : cell % dirCount, dirs.get(cell));
+		}
+	}
+
+	@Test
+	public void testNeighbors4() {
+		testNeighbors(Grid4Topology.get());
+	}
+
+	@Test
+	public void testNeighbors8() {
+		testNeighbors(Grid8Topology.get());
+	}
+
+	@Test
+	public void testDirections4() {
+		testDirections(4);
+	}
+
+	@Test
+	public void testDirections8() {
+		testDirections(8);
+	}
+}
\ No newline at end of file
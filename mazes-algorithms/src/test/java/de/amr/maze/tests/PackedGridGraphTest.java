@@ -0,0 +1,174 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.COMPLETED;
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.graph.core.api.TraversalState.VISITED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.pathfinder.util.GraphSearchUtils;
+import de.amr.graph.util.GraphUtils;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.PackedGridGraph;
+import de.amr.maze.alg.mst.KruskalMST;
+import de.amr.maze.alg.mst.ReverseDeleteMST_DFS;
+import de.amr.maze.alg.others.Armin;
+import de.amr.maze.alg.others.Eller;
+import de.amr.maze.alg.others.RecursiveDivision;
+import de.amr.maze.alg.traversal.IterativeDFS;
+import de.amr.maze.alg.ust.WilsonUSTRandomCell;
+
+/**
+ * Test case for {@link PackedGridGraph}.
+ *
+ * @author Armin Reichert
+ */
+public class PackedGridGraphTest {
+
+	private static void assertMaze(GridGraph2D<TraversalState, Integer> grid) {
+		assertEquals("Wrong number of edges", grid.numVertices() - 1, grid.numEdges());
+		assertFalse("Cycle detected", GraphUtils.containsCycle(grid));
+		assertTrue("Disconnected", GraphSearchUtils.isConnectedGraph(grid));
+	}
+
+	private static void testGenerator(Function<GridGraph2D<TraversalState, Integer>, MazeGenerator> fnGenerator) {
+		PackedGridGraph grid = new PackedGridGraph(63, 37, UNVISITED);
+		MazeGenerator generator = fnGenerator.apply(grid);
+		generator.createMaze(0, 0);
+		assertMaze(grid);
+		// generator can be reused after reset
+		generator.reset();
+		assertEquals(0, grid.numEdges());
+		assertTrue(grid.vertices().allMatch(cell -> grid.get(cell) == UNVISITED));
+		generator.createMaze(0, 0);
+		assertMaze(grid);
+	}
+
+	@Test
+	public void testLabels() {
+		PackedGridGraph grid = new PackedGridGraph(5, 7, UNVISITED);
+		assertTrue(grid.vertices().allMatch(cell -> grid.get(cell) == UNVISITED));
+		grid.set(17, VISITED);
+		grid.set(18, COMPLETED);
+		assertEquals(VISITED, grid.get(17));
+		assertEquals(COMPLETED, grid.get(18));
+		assertEquals(UNVISITED, grid.get(16));
+		grid.setDefaultVertexLabel(cell -> COMPLETED);
+		assertEquals(COMPLETED, grid.get(16));
+		assertEquals(VISITED, grid.get(17));
+		grid.clearVertexLabels();
+		assertEquals(COMPLETED, grid.get(17));
+		grid.setDefaultState(VISITED);
+		assertEquals(VISITED, grid.get(17));
+		assertEquals(VISITED, grid.getDefaultVertexLabel(17));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGrid8TopologyRejected() {
+		new PackedGridGraph(5, 7, Grid8Topology.get(), UNVISITED);
+	}
+
+	@Test
+	public void testDefaultEdgeLabelAccepted() {
+		PackedGridGraph grid = new PackedGridGraph(5, 7, UNVISITED);
+		grid.addEdge(0, 1, 0);
+		grid.setEdgeLabel(0, 1, 0);
+		assertTrue(grid.adjacent(0, 1));
+		assertEquals(Integer.valueOf(0), grid.getEdgeLabel(0, 1));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAddEdgeWithLabelRejected() {
+		new PackedGridGraph(5, 7, UNVISITED).addEdge(0, 1, 42);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSetEdgeLabelRejected() {
+		PackedGridGraph grid = new PackedGridGraph(5, 7, UNVISITED);
+		grid.addEdge(0, 1);
+		grid.setEdgeLabel(0, 1, 42);
+	}
+
+	@Test
+	public void testEdges() {
+		PackedGridGraph grid = new PackedGridGraph(5, 7, UNVISITED);
+		int cell = grid.cell(2, 3);
+		grid.addEdge(cell, grid.cell(3, 3));
+		grid.addEdge(grid.cell(2, 2), cell);
+		assertEquals(2, grid.numEdges());
+		assertTrue(grid.adjacent(grid.cell(3, 3), cell));
+		assertTrue(grid.adjacent(cell, grid.cell(2, 2)));
+		assertFalse(grid.adjacent(cell, grid.cell(1, 3)));
+		assertFalse(grid.adjacent(grid.cell(4, 0), grid.cell(0, 1)));
+		assertEquals(2, grid.degree(cell));
+		assertEquals(2, grid.edges().count());
+		grid.removeEdge(cell, grid.cell(3, 3));
+		assertEquals(1, grid.numEdges());
+		assertFalse(grid.adjacent(cell, grid.cell(3, 3)));
+		grid.fill();
+		assertEquals(4 * 7 + 5 * 6, grid.numEdges());
+		assertEquals(grid.numEdges(), grid.edges().count());
+		grid.removeEdges();
+		assertEquals(0, grid.numEdges());
+	}
+
+	@Test
+	public void testClear() {
+		PackedGridGraph grid = new PackedGridGraph(5, 7, UNVISITED);
+		grid.fill();
+		grid.set(17, VISITED);
+		grid.clear();
+		assertEquals(0, grid.numEdges());
+		assertEquals(0, grid.edges().count());
+		assertEquals(UNVISITED, grid.get(17));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoEdgeAcrossRowBorder() {
+		PackedGridGraph grid = new PackedGridGraph(5, 7, UNVISITED);
+		grid.addEdge(grid.cell(4, 0), grid.cell(0, 1));
+	}
+
+	@Test
+	public void testArmin() {
+		testGenerator(Armin::new);
+	}
+
+	@Test
+	public void testEller() {
+		testGenerator(Eller::new);
+	}
+
+	@Test
+	public void testIterativeDFS() {
+		testGenerator(IterativeDFS::new);
+	}
+
+	@Test
+	public void testKruskal() {
+		testGenerator(KruskalMST::new);
+	}
+
+	@Test
+	public void testRecursiveDivision() {
+		testGenerator(RecursiveDivision::new);
+	}
+
+	@Test
+	public void testReverseDelete() {
+		testGenerator(ReverseDeleteMST_DFS::new);
+	}
+
+	@Test
+	public void testWilson() {
+		testGenerator(WilsonUSTRandomCell::new);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.maze.tests.MazeTestUtils.edges;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.mst.ParallelBoruvkaMST;
+
+/**
+ * Test case for {@link ParallelBoruvkaMST}.
+ *
+ * @author Armin Reichert
+ */
+public class ParallelBoruvkaMSTTest {
+
+	private static Set<Long> createMaze(Topology top, int x, int y) {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(60, 40, top, UNVISITED, 0);
+		ParallelBoruvkaMST generator = new ParallelBoruvkaMST(grid);
+		generator.setRandom(new MazeRandom(42));
+		generator.createMaze(x, y);
+		return edges(grid);
+	}
+
+	private static void testSameMazeForAnyStartCell(Topology top) {
+		Set<Long> maze = createMaze(top, 0, 0);
+		assertEquals(maze, createMaze(top, 30, 20));
+		assertEquals(maze, createMaze(top, 59, 39));
+	}
+
+	// the weights only depend on the seed and have no ties, so the minimum spanning tree is unique
+	@Test
+	public void testSameMazeForAnyStartCell4() {
+		testSameMazeForAnyStartCell(Grid4Topology.get());
+	}
+
+	@Test
+	public void testSameMazeForAnyStartCell8() {
+		testSameMazeForAnyStartCell(Grid8Topology.get());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package de.amr.maze.tests;
+
+import static de.amr.maze.tests.MazeTestUtils.assertUniformSpanningTrees;
+
+import org.junit.Test;
+
+import de.amr.maze.alg.ust.ParallelCyclePoppingUST;
+
+/**
+ * Test case for {@link ParallelCyclePoppingUST}.
+ *
+ * @author Armin Reichert
+ */
+public class ParallelCyclePoppingUSTTest {
+
+	@Test
+	public void testUniformDistribution() {
+		assertUniformSpanningTrees(ParallelCyclePoppingUST::new);
+	}
+}
\ No newline at end of file
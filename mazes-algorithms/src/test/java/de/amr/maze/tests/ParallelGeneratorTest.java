@@ -0,0 +1,95 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.maze.tests.MazeTestUtils.edges;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.graph.pathfinder.util.GraphSearchUtils;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.mst.ParallelBoruvkaMST;
+import de.amr.maze.alg.traversal.ParallelRandomBFS;
+import de.amr.maze.alg.ust.ParallelCyclePoppingUST;
+
+/**
+ * Tests that the parallel generators create the same maze for the same seed, whatever the number of
+ * threads.
+ *
+ * @author Armin Reichert
+ */
+@RunWith(Parameterized.class)
+public class ParallelGeneratorTest {
+
+	private static final int[] NUM_THREADS = { 1, 2, 4, 8 };
+
+	private static Object[] generator(String name,
+			BiFunction<GridGraph2D<TraversalState, Integer>, ForkJoinPool, MazeGenerator> fnGenerator) {
+		return new Object[] { name, fnGenerator };
+	}
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> generators() {
+		return Arrays.asList(
+			generator("ParallelCyclePoppingUST", ParallelCyclePoppingUST::new),
+			generator("ParallelBoruvkaMST", ParallelBoruvkaMST::new),
+			generator("ParallelRandomBFS", ParallelRandomBFS::new)
+		);
+	}
+
+	@Parameter(0)
+	public String name;
+
+	@Parameter(1)
+	public BiFunction<GridGraph2D<TraversalState, Integer>, ForkJoinPool, MazeGenerator> fnGenerator;
+
+	private Set<Long> createMaze(Topology top, int numThreads) {
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+		try {
+			GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(300, 200, top, UNVISITED, 0);
+			MazeGenerator generator = fnGenerator.apply(grid, pool);
+			generator.setRandom(new MazeRandom(42));
+			generator.createMaze(150, 100);
+			assertEquals(grid.numVertices() - 1, grid.numEdges());
+			assertTrue(GraphSearchUtils.isConnectedGraph(grid));
+			return edges(grid);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private void testSameMazeForAnyNumberOfThreads(Topology top) {
+		Set<Long> maze = createMaze(top, NUM_THREADS[0]);
+		for (int i = 1; i < NUM_THREADS.length; ++i) {
+			assertEquals("Threads: " + NUM_THREADS[i], maze, createMaze(top, NUM_THREADS[i]));
+		}
+	}
+
+	@Test
+	public void testSameMazeForAnyNumberOfThreads4() {
+		testSameMazeForAnyNumberOfThreads(Grid4Topology.get());
+	}
+
+	@Test
+	public void testSameMazeForAnyNumberOfThreads8() {
+		testSameMazeForAnyNumberOfThreads(Grid8Topology.get());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static de.amr.maze.tests.MazeTestUtils.edge;
+import static de.amr.maze.tests.MazeTestUtils.edges;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.pathfinder.util.GraphSearchUtils;
+import de.amr.graph.util.GraphUtils;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.core.PackedGridGraph;
+import de.amr.maze.alg.io.MazeFileReader;
+import de.amr.maze.alg.io.MazeFileRowWriter;
+import de.amr.maze.alg.others.Eller;
+import de.amr.maze.alg.others.StreamingEller;
+
+/**
+ * Test case for {@link StreamingEller}.
+ *
+ * @author Armin Reichert
+ */
+public class StreamingEllerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSameMazeAsEller() {
+		for (int numCols : new int[] { 1, 2, 7, 100 }) {
+			int numRows = 57;
+			PackedGridGraph grid = new PackedGridGraph(numCols, numRows, UNVISITED);
+			Eller eller = new Eller(grid);
+			eller.setRandom(new MazeRandom(42));
+			eller.createMaze(0, 0);
+
+			Set<Long> streamed = new HashSet<>();
+			new StreamingEller(numCols, new MazeRandom(42)).createMaze(numRows, (u, v) -> streamed.add(edge(u, v)));
+			assertEquals(edges(grid), streamed);
+		}
+	}
+
+	@Test
+	public void testFileRoundTrip() throws IOException {
+		int numCols = 123, numRows = 456;
+		Path file = folder.newFile().toPath();
+		try (MazeFileRowWriter writer = new MazeFileRowWriter(file, numCols, numRows, 7)) {
+			new StreamingEller(numCols, new MazeRandom(7)).createMaze(numRows, writer);
+		}
+		GridGraph2D<TraversalState, Integer> maze = MazeFileReader.read(file);
+		assertEquals(numCols * numRows - 1, maze.numEdges());
+		assertFalse(GraphUtils.containsCycle(maze));
+		assertTrue(GraphSearchUtils.isConnectedGraph(maze));
+
+		Set<Long> streamed = new HashSet<>();
+		new StreamingEller(numCols, new MazeRandom(7)).createMaze(numRows, (u, v) -> streamed.add(edge(u, v)));
+		assertEquals(streamed, edges(maze));
+	}
+
+	@Test(expected = IOException.class)
+	public void testIncompleteFile() throws IOException {
+		Path file = folder.newFile().toPath();
+		try (MazeFileRowWriter writer = new MazeFileRowWriter(file, 10, 10, 0)) {
+			new StreamingEller(10, new MazeRandom(0)).createMaze(5, writer);
+		}
+	}
+}
\ No newline at end of file
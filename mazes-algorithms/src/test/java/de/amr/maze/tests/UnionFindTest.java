@@ -0,0 +1,83 @@
+package de.amr.maze.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import de.amr.maze.alg.core.UnionFind;
+
+/**
+ * Test case for {@link UnionFind}.
+ *
+ * @author Armin Reichert
+ */
+public class UnionFindTest {
+
+	@Test
+	public void testSingletons() {
+		UnionFind uf = new UnionFind(10);
+		assertEquals(10, uf.numSets());
+		assertEquals(10, uf.numElements());
+		for (int i = 0; i < 10; ++i) {
+			assertEquals(i, uf.find(i));
+			assertEquals(1, uf.size(i));
+		}
+	}
+
+	@Test
+	public void testUnion() {
+		UnionFind uf = new UnionFind(6);
+		assertTrue(uf.union(0, 1));
+		assertTrue(uf.union(2, 3));
+		assertTrue(uf.union(1, 3));
+		assertFalse(uf.union(0, 2));
+		assertEquals(3, uf.numSets());
+		assertEquals(4, uf.size(3));
+		assertTrue(uf.connected(0, 3));
+		assertFalse(uf.connected(0, 4));
+		// same size: representative of the first set stays
+		assertEquals(0, uf.find(2));
+		assertTrue(uf.union(5, 4));
+		assertEquals(5, uf.find(4));
+		// smaller set is attached to larger set
+		assertTrue(uf.union(4, 0));
+		assertEquals(0, uf.find(5));
+		assertEquals(1, uf.numSets());
+	}
+
+	@Test
+	public void testAgainstLabels() {
+		int n = 1000;
+		UnionFind uf = new UnionFind(n);
+		int[] label = new int[n];
+		for (int i = 0; i < n; ++i) {
+			label[i] = i;
+		}
+		Random rnd = new Random(42);
+		int numSets = n;
+		for (int k = 0; k < 2000; ++k) {
+			int x = rnd.nextInt(n), y = rnd.nextInt(n);
+			boolean different = label[x] != label[y];
+			assertEquals(different, uf.union(x, y));
+			if (different) {
+				int old = label[y];
+				for (int i = 0; i < n; ++i) {
+					if (label[i] == old) {
+						label[i] = label[x];
+					}
+				}
+				--numSets;
+			}
+			assertEquals(numSets, uf.numSets());
+		}
+		for (int i = 0; i < n; ++i) {
+			for (int j = i + 1; j < n; j += 37) {
+				assertEquals(label[i] == label[j], uf.connected(i, j));
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package de.amr.maze.tests;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.core.WalkStatistics;
+import de.amr.maze.alg.ust.WilsonUST;
+import de.amr.maze.alg.ust.WilsonUSTHilbertCurve;
+import de.amr.maze.alg.ust.WilsonUSTRandomCell;
+
+/**
+ * Test case for {@link WalkStatistics}.
+ *
+ * @author Armin Reichert
+ */
+public class WalkStatisticsTest {
+
+	@Test
+	public void testBuckets() {
+		assertEquals(0, WalkStatistics.bucket(0));
+		assertEquals(1, WalkStatistics.bucket(1));
+		assertEquals(2, WalkStatistics.bucket(2));
+		assertEquals(2, WalkStatistics.bucket(3));
+		assertEquals(3, WalkStatistics.bucket(4));
+		assertEquals(10, WalkStatistics.bucket(1023));
+		assertEquals(11, WalkStatistics.bucket(1024));
+		assertEquals(31, WalkStatistics.bucket(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testCounters() {
+		WalkStatistics stats = new WalkStatistics();
+		stats.walkCompleted(5, 3);
+		stats.walkCompleted(1, 1);
+		assertEquals(2, stats.getWalks());
+		assertEquals(6, stats.getSteps());
+		assertEquals(4, stats.getKeptSteps());
+		assertEquals(2, stats.getErasedSteps());
+		assertEquals(5, stats.getMaxWalkLength());
+		assertEquals(1.5, stats.getStepsPerAddedCell(), 1e-9);
+		assertEquals(1, stats.getWalkLengthHistogram()[1]);
+		assertEquals(1, stats.getWalkLengthHistogram()[3]);
+		assertEquals(1, stats.getErasedLengthHistogram()[0]);
+		assertEquals(1, stats.getErasedLengthHistogram()[2]);
+		stats.reset();
+		assertEquals(0, stats.getWalks());
+		assertEquals(0, stats.getSteps());
+		assertEquals(0, Arrays.stream(stats.getWalkLengthHistogram()).sum());
+	}
+
+	private WalkStatistics run(WilsonUST generator, GridGraph2D<TraversalState, Integer> grid) {
+		WalkStatistics stats = new WalkStatistics();
+		generator.setRandom(new MazeRandom(42));
+		generator.setProbe(stats);
+		generator.createMaze(0, 0);
+		assertEquals(grid.numVertices() - 1, stats.getKeptSteps());
+		assertTrue(stats.getSteps() >= stats.getKeptSteps());
+		assertEquals(generator.getTotalWalkSteps(), stats.getSteps());
+		assertEquals(stats.getWalks(), Arrays.stream(stats.getWalkLengthHistogram()).sum());
+		assertEquals(stats.getWalks(), Arrays.stream(stats.getErasedLengthHistogram()).sum());
+		return stats;
+	}
+
+	@Test
+	public void testWilsonRandomCell() {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(30, 20, Grid4Topology.get(), UNVISITED, 0);
+		WalkStatistics stats = run(new WilsonUSTRandomCell(grid), grid);
+		assertTrue(stats.getErasedSteps() > 0);
+		assertTrue(stats.getMaxWalkLength() >= stats.getStepsPerAddedCell());
+	}
+
+	@Test
+	public void testWilsonHilbertCurve() {
+		GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(32, 32, Grid4Topology.get(), UNVISITED, 0);
+		run(new WilsonUSTHilbertCurve(grid), grid);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package de.amr.maze.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+
+/**
+ * Benchmarks the maze generators on grids with 8-neighborhood. {@link de.amr.maze.alg.others.Armin}
+ * is excluded because it only works with 4-neighborhood, the reverse-delete generators searching a
+ * path are benchmarked with smaller grids in {@link ReverseDeleteBenchmark}.
+ *
+ * @author Armin Reichert
+ */
+public class Grid8Benchmark extends MazeGeneratorBenchmark {
+
+	@Param({ "mst.BoruvkaMST", "mst.KruskalMST", "mst.ParallelBoruvkaMST", "mst.PrimMST", "others.BinaryTree",
+			"others.BinaryTreeRandom", "others.Eller", "others.HuntAndKill", "others.HuntAndKillRandom",
+			"others.RecursiveDivision", "others.Sidewinder", "traversal.GrowingTreeAlwaysFirst",
+			"traversal.GrowingTreeAlwaysLast", "traversal.GrowingTreeAlwaysRandom", "traversal.GrowingTreeLastOrRandom",
+			"traversal.IterativeDFS", "traversal.ParallelRandomBFS", "traversal.RandomBFS", "traversal.RecursiveDFS",
+			"ust.AldousBroderUST", "ust.AldousBroderWilsonUST", "ust.ParallelCyclePoppingUST",
+			"ust.WilsonUSTCollapsingCircle", "ust.WilsonUSTCollapsingRectangle", "ust.WilsonUSTCollapsingWalls",
+			"ust.WilsonUSTExpandingCircle", "ust.WilsonUSTExpandingCircles", "ust.WilsonUSTExpandingRectangle",
+			"ust.WilsonUSTExpandingSpiral", "ust.WilsonUSTHilbertCurve", "ust.WilsonUSTLeftToRightSweep",
+			"ust.WilsonUSTMooreCurve", "ust.WilsonUSTNestedRectangles", "ust.WilsonUSTPeanoCurve",
+			"ust.WilsonUSTRandomCell", "ust.WilsonUSTRecursiveCrosses", "ust.WilsonUSTRightToLeftSweep",
+			"ust.WilsonUSTRowsTopDown" })
+	public String generator;
+
+	@Param({ "10000", "100000", "1000000", "10000000" })
+	public int numCells;
+
+	@Override
+	protected int numCells() {
+		return numCells;
+	}
+
+	@Override
+	protected String generatorName() {
+		return generator;
+	}
+
+	@Override
+	protected Topology topology() {
+		return Grid8Topology.get();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package de.amr.maze.benchmarks;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeGenerator;
+import de.amr.maze.alg.core.MazeRandom;
+
+/**
+ * Base class of the maze generator benchmarks.
+ * <p>
+ * Each iteration creates one maze on a fresh square grid with the given number of cells, starting
+ * at the grid center. Grid creation is not measured. The random source of each iteration is split
+ * from a source with a fixed seed, so repeated runs generate the same sequence of mazes.
+ *
+ * @author Armin Reichert
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xss1g")
+public abstract class MazeGeneratorBenchmark {
+
+	private static final long SEED = 42;
+
+	private MazeRandom seeds;
+	private GridGraph2D<TraversalState, Integer> grid;
+	private MazeGenerator generator;
+
+	/**
+	 * @return number of grid cells
+	 */
+	protected abstract int numCells();
+
+	/**
+	 * @return name of the generator class relative to package {@code de.amr.maze.alg}, e.g.
+	 *         {@code "mst.KruskalMST"}
+	 */
+	protected abstract String generatorName();
+
+	/**
+	 * @return the grid topology
+	 */
+	protected abstract Topology topology();
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		seeds = new MazeRandom(SEED);
+	}
+
+	@Setup(Level.Iteration)
+	public void setupIteration() throws ReflectiveOperationException {
+		int size = (int) Math.round(Math.sqrt(numCells()));
+		grid = GridFactory.emptyGrid(size, size, topology(), UNVISITED, 0);
+		generator = (MazeGenerator) Class.forName("de.amr.maze.alg." + generatorName())
+				.getConstructor(GridGraph2D.class).newInstance(grid);
+		generator.setRandom(seeds.split());
+	}
+
+	@Benchmark
+	public GridGraph2D<TraversalState, Integer> createMaze() {
+		generator.createMaze(grid.numCols() / 2, grid.numRows() / 2);
+		return grid;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package de.amr.maze.benchmarks;
+
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.amr.graph.grid.api.Topology;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.Grid8Topology;
+
+/**
+ * Benchmarks the reverse-delete generators that test connectivity with a path search, on grids with
+ * 4- and 8-neighborhood.
+ * <p>
+ * Each removed edge may start a search through the whole grid, so these generators take time
+ * O(E * V). Grid sizes are limited to 10^4 cells, where one maze takes seconds; at 10^5 cells it takes
+ * many minutes. Warmup and measurement use fewer iterations than the other benchmarks.
+ * {@code mst.ReverseDeleteMST_PlanarDual} does not search and is part of {@link Grid4Benchmark}.
+ *
+ * @author Armin Reichert
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ReverseDeleteBenchmark extends MazeGeneratorBenchmark {
+
+	@Param({ "mst.ReverseDeleteMST_BFS", "mst.ReverseDeleteMST_BestFS", "mst.ReverseDeleteMST_BidiAStar",
+			"mst.ReverseDeleteMST_DFS", "mst.ReverseDeleteMST_HillClimbing" })
+	public String generator;
+
+	@Param({ "1000", "10000" })
+	public int numCells;
+
+	@Param({ "4", "8" })
+	public int neighbors;
+
+	@Override
+	protected int numCells() {
+		return numCells;
+	}
+
+	@Override
+	protected String generatorName() {
+		return generator;
+	}
+
+	@Override
+	protected Topology topology() {
+		return neighbors == 4 ? Grid4Topology.get() : Grid8Topology.get();
+	}
+}
\ No newline at end of file
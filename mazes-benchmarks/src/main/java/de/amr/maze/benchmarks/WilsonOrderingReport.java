@@ -0,0 +1,112 @@
+package de.amr.maze.benchmarks;
+
+import static de.amr.graph.core.api.TraversalState.UNVISITED;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import de.amr.graph.core.api.TraversalState;
+import de.amr.graph.grid.api.GridGraph2D;
+import de.amr.graph.grid.impl.Grid4Topology;
+import de.amr.graph.grid.impl.GridFactory;
+import de.amr.maze.alg.core.MazeRandom;
+import de.amr.maze.alg.core.WalkStatistics;
+import de.amr.maze.alg.ust.WilsonUST;
+
+/**
+ * Compares the random walk start cell orderings of the Wilson variants. Each variant creates mazes
+ * on the same grid shapes with the same seeds, the report lists for each shape the variants sorted
+ * by the average number of random walk steps. Variants that fail are listed at the end.
+ * <p>
+ * Usage: {@code WilsonOrderingReport [numSeeds] [COLSxROWS ...]}, default is 5 seeds on the shapes
+ * 512x512, 2048x128 and 128x2048.
+ *
+ * @author Armin Reichert
+ */
+public class WilsonOrderingReport {
+
+	static final String[] VARIANTS = { "WilsonUSTCollapsingCircle", "WilsonUSTCollapsingRectangle",
+			"WilsonUSTCollapsingWalls", "WilsonUSTExpandingCircle", "WilsonUSTExpandingCircles",
+			"WilsonUSTExpandingRectangle", "WilsonUSTExpandingSpiral", "WilsonUSTHilbertCurve",
+			"WilsonUSTLeftToRightSweep", "WilsonUSTMooreCurve", "WilsonUSTNestedRectangles", "WilsonUSTPeanoCurve",
+			"WilsonUSTRandomCell", "WilsonUSTRecursiveCrosses", "WilsonUSTRightToLeftSweep", "WilsonUSTRowsTopDown" };
+
+	static class Row {
+
+		String variant;
+		double steps;
+		double stepsPerCell;
+		double erasedFraction;
+		double maxWalkLength;
+		double millis;
+		String error;
+	}
+
+	public static void main(String[] args) {
+		int numSeeds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		List<int[]> shapes = new ArrayList<>();
+		for (int i = 1; i < args.length; ++i) {
+			String[] size = args[i].split("x");
+			shapes.add(new int[] { Integer.parseInt(size[0]), Integer.parseInt(size[1]) });
+		}
+		if (shapes.isEmpty()) {
+			shapes.add(new int[] { 512, 512 });
+			shapes.add(new int[] { 2048, 128 });
+			shapes.add(new int[] { 128, 2048 });
+		}
+		for (int[] shape : shapes) {
+			List<Row> rows = new ArrayList<>();
+			for (String variant : VARIANTS) {
+				rows.add(run(variant, shape[0], shape[1], numSeeds));
+			}
+			rows.sort(Comparator.comparingDouble(row -> row.error != null ? Double.MAX_VALUE : row.steps));
+			print(shape[0], shape[1], numSeeds, rows);
+		}
+	}
+
+	static Row run(String variant, int numCols, int numRows, int numSeeds) {
+		Row row = new Row();
+		row.variant = variant;
+		WalkStatistics stats = new WalkStatistics();
+		try {
+			for (int seed = 0; seed < numSeeds; ++seed) {
+				GridGraph2D<TraversalState, Integer> grid = GridFactory.emptyGrid(numCols, numRows, Grid4Topology.get(),
+						UNVISITED, 0);
+				WilsonUST generator = (WilsonUST) Class.forName("de.amr.maze.alg.ust." + variant)
+						.getConstructor(GridGraph2D.class).newInstance(grid);
+				generator.setRandom(new MazeRandom(seed));
+				generator.setHeadless(true);
+				stats.reset();
+				generator.setProbe(stats);
+				long start = System.nanoTime();
+				generator.createMaze(numCols / 2, numRows / 2);
+				row.millis += (System.nanoTime() - start) / 1e6 / numSeeds;
+				if (grid.numEdges() != grid.numVertices() - 1) {
+					throw new IllegalStateException("Not a spanning tree");
+				}
+				row.steps += (double) stats.getSteps() / numSeeds;
+				row.stepsPerCell += stats.getStepsPerAddedCell() / numSeeds;
+				row.erasedFraction += (double) stats.getErasedSteps() / stats.getSteps() / numSeeds;
+				row.maxWalkLength += (double) stats.getMaxWalkLength() / numSeeds;
+			}
+		} catch (Exception | Error e) {
+			row.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+		}
+		return row;
+	}
+
+	static void print(int numCols, int numRows, int numSeeds, List<Row> rows) {
+		System.out.printf("%nGrid %d x %d, averages over %d seeds%n", numCols, numRows, numSeeds);
+		System.out.printf("%-30s %14s %10s %8s %12s %10s%n", "Variant", "Steps", "Steps/cell", "Erased", "Max walk",
+				"Millis");
+		for (Row row : rows) {
+			if (row.error != null) {
+				System.out.printf("%-30s failed: %s%n", row.variant, row.error);
+			} else {
+				System.out.printf("%-30s %14.0f %10.2f %7.1f%% %12.0f %10.1f%n", row.variant, row.steps,
+						row.stepsPerCell, 100 * row.erasedFraction, row.maxWalkLength, row.millis);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -11,11 +11,11 @@ import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import de.amr.datastruct.Partition;
 import de.amr.mazes.simple.graph.Dir;
 import de.amr.mazes.simple.graph.DirMap;
 import de.amr.mazes.simple.graph.Edge;
 import de.amr.mazes.simple.graph.GridGraph;
+import de.amr.mazes.simple.graph.UnionFind;
 
 /**
  * Collection of maze generation algorithms.
@@ -94,12 +94,10 @@ public class MazeAlgorithms {
 			}
 		}
 		Collections.shuffle(edges);
-		Partition<Integer> forest = new Partition<>();
+		UnionFind forest = new UnionFind(grid.numVertices());
 		for (Edge edge : edges) {
-			int u = edge.either, v = edge.other;
-			if (forest.find(u) != forest.find(v)) {
-				grid.connect(u, v);
-				forest.union(u, v);
+			if (forest.union(edge.either, edge.other)) {
+				grid.connect(edge.either, edge.other);
 			}
 		}
 	}
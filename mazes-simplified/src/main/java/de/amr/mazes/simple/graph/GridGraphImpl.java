@@ -21,6 +21,12 @@ public class GridGraphImpl implements GridGraph {
 		edges = new BitSet(4 * rows * cols);
 	}
 
+	GridGraphImpl(int rows, int cols, BitSet edges) {
+		this.rows = rows;
+		this.cols = cols;
+		this.edges = edges;
+	}
+
 	@Override
 	public int numCols() {
 		return cols;
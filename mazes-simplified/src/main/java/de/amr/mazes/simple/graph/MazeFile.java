@@ -0,0 +1,137 @@
+package de.amr.mazes.simple.graph;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+/**
+ * Reads and writes mazes in the binary maze file format of module mazes-algorithms:
+ * 
+ * <pre>
+ * offset  size  content
+ *  0      4     magic number "MAZE"
+ *  4      2     format version (1)
+ *  6      1     topology (number of directions, always 4 here)
+ *  7      1     reserved (0)
+ *  8      4     number of columns
+ * 12      4     number of rows
+ * 16      8     seed
+ * 24      8     reserved (0)
+ * 32      ...   passages, 2 bits per cell (bit 0: east, bit 1: south), 4 cells per byte, row-major
+ * </pre>
+ * 
+ * @author Armin Reichert
+ */
+public class MazeFile {
+
+	public static final int MAGIC = 0x4D415A45;
+	public static final short VERSION = 1;
+	public static final int HEADER_SIZE = 32;
+
+	// 4 bits per vertex must be addressable by an int bit index
+	private static final int MAX_VERTICES = Integer.MAX_VALUE / 4;
+
+	/**
+	 * Writes the given maze to a file. An existing file is overwritten.
+	 * 
+	 * @param file
+	 *               path of the maze file
+	 * @param grid
+	 *               grid containing the maze
+	 * @param seed
+	 *               seed stored in the file header
+	 * @throws IOException
+	 *                       if the file cannot be written
+	 */
+	public static void write(Path file, GridGraph grid, long seed) throws IOException {
+		int cols = grid.numCols(), rows = grid.numRows(), numVertices = grid.numVertices();
+		try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+			MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE + (numVertices + 3L) / 4);
+			buffer.putInt(MAGIC).putShort(VERSION).put((byte) 4).put((byte) 0);
+			buffer.putInt(cols).putInt(rows).putLong(seed).putLong(0);
+			int bits = 0;
+			for (int vertex = 0; vertex < numVertices; ++vertex) {
+				int passages = (grid.connected(vertex, Dir.E) ? 1 : 0) | (grid.connected(vertex, Dir.S) ? 2 : 0);
+				bits |= passages << 2 * (vertex & 3);
+				if ((vertex & 3) == 3 || vertex == numVertices - 1) {
+					buffer.put((byte) bits);
+					bits = 0;
+				}
+			}
+			buffer.force();
+		}
+	}
+
+	/**
+	 * Reads a maze from a file.
+	 * 
+	 * @param file
+	 *               path of the maze file
+	 * @return grid containing the maze
+	 * @throws IOException
+	 *                       if the file cannot be read, is not a valid maze file or the maze has more
+	 *                       than {@code Integer.MAX_VALUE / 4} cells
+	 */
+	public static GridGraphImpl read(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, READ)) {
+			MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+				throw new IOException("Not a maze file");
+			}
+			if (buffer.getShort() != VERSION || buffer.get() != 4) {
+				throw new IOException("Unsupported maze file version or topology");
+			}
+			buffer.get();
+			int cols = buffer.getInt(), rows = buffer.getInt();
+			buffer.getLong();
+			buffer.getLong();
+			if (cols <= 0 || rows <= 0) {
+				throw new IOException("Invalid maze file");
+			}
+			long numCells = (long) cols * rows;
+			if (numCells > MAX_VERTICES) {
+				throw new IOException(String.format("Maze with %d cells is too large to be loaded", numCells));
+			}
+			if (channel.size() != HEADER_SIZE + (numCells + 3) / 4) {
+				throw new IOException("Invalid maze file");
+			}
+			// 4 bits (N, E, S, W) per vertex as in GridGraphImpl
+			int numVertices = (int) numCells;
+			long[] words = new long[(numVertices + 15) / 16];
+			int bits = 0;
+			for (int vertex = 0; vertex < numVertices; ++vertex) {
+				if ((vertex & 3) == 0) {
+					bits = buffer.get() & 0xFF;
+				}
+				int passages = bits >>> 2 * (vertex & 3);
+				if ((passages & 1) != 0) {
+					if (vertex % cols == cols - 1) {
+						throw new IOException("Invalid maze file: passage leaving the grid");
+					}
+					setBit(words, 4 * vertex + Dir.E.ordinal());
+					setBit(words, 4 * (vertex + 1) + Dir.W.ordinal());
+				}
+				if ((passages & 2) != 0) {
+					if (vertex / cols == rows - 1) {
+						throw new IOException("Invalid maze file: passage leaving the grid");
+					}
+					setBit(words, 4 * vertex + Dir.S.ordinal());
+					setBit(words, 4 * (vertex + cols) + Dir.N.ordinal());
+				}
+			}
+			return new GridGraphImpl(rows, cols, BitSet.valueOf(words));
+		}
+	}
+
+	private static void setBit(long[] words, int bit) {
+		words[bit >>> 6] |= 1L << bit;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package de.amr.mazes.simple.graph;
+
+/**
+ * Disjoint sets over the vertices {@code 0 .. n - 1} with union by size and path halving.
+ * 
+ * @author Armin Reichert
+ */
+public class UnionFind {
+
+	private final int[] parent;
+	private final int[] size;
+	private int numSets;
+
+	public UnionFind(int n) {
+		parent = new int[n];
+		size = new int[n];
+		for (int i = 0; i < n; ++i) {
+			parent[i] = i;
+			size[i] = 1;
+		}
+		numSets = n;
+	}
+
+	public int find(int x) {
+		while (parent[x] != x) {
+			parent[x] = parent[parent[x]];
+			x = parent[x];
+		}
+		return x;
+	}
+
+	public boolean union(int x, int y) {
+		int rx = find(x), ry = find(y);
+		if (rx == ry) {
+			return false;
+		}
+		if (size[rx] < size[ry]) {
+			int tmp = rx;
+			rx = ry;
+			ry = tmp;
+		}
+		parent[ry] = rx;
+		size[rx] += size[ry];
+		--numSets;
+		return true;
+	}
+
+	public int numSets() {
+		return numSets;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package de.amr.mazes.simple.test;
+
+import static de.amr.mazes.simple.MazeAlgorithms.createMazeByKruskal;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.amr.mazes.simple.graph.Dir;
+import de.amr.mazes.simple.graph.GridGraph;
+import de.amr.mazes.simple.graph.GridGraphImpl;
+import de.amr.mazes.simple.graph.MazeFile;
+
+public class MazeFileTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testWriteRead() throws IOException {
+		GridGraph grid = new GridGraphImpl(37, 23);
+		createMazeByKruskal(grid);
+		Path file = folder.newFile().toPath();
+		MazeFile.write(file, grid, 0);
+		GridGraph loaded = MazeFile.read(file);
+		assertEquals(grid.numRows(), loaded.numRows());
+		assertEquals(grid.numCols(), loaded.numCols());
+		assertEquals(grid.numEdges(), loaded.numEdges());
+		for (int vertex = 0; vertex < grid.numVertices(); ++vertex) {
+			for (Dir dir : Dir.values()) {
+				assertEquals(grid.connected(vertex, dir), loaded.connected(vertex, dir));
+			}
+		}
+	}
+
+	@Test
+	public void testTooLargeMazeRejected() throws IOException {
+		Path file = folder.newFile().toPath();
+		ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER_SIZE);
+		header.putInt(MazeFile.MAGIC).putShort(MazeFile.VERSION).put((byte) 4).put((byte) 0);
+		header.putInt(1 << 15).putInt(1 << 14).putLong(0).putLong(0);
+		Files.write(file, header.array());
+		try {
+			MazeFile.read(file);
+			fail("Too large maze not rejected");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("too large"));
+		}
+	}
+}
\ No newline at end of file